@@ -0,0 +1,110 @@
+package org.example.myproject.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요 카운터 write-behind 버퍼 (app.likes.write-behind.enabled=true 일 때만 사용).
+ * - 멤버십(post_likes / news_likes)은 즉시 저장하고, 카운터 컬럼 증감만 대상별 LongAdder 에 모아 둔다
+ * - 토글은 잠금 없이 멱등 insertIgnore / deleteByIds 결과로만 증감을 정한다 (인스턴스가 여러 개여도 동일)
+ * - 주기적으로(flush-interval-ms) / 종료 시 모인 증감을 batch update 로 반영 → 인기 글 행 잠금 경합 제거
+ * - 조회 값 = 저장된 컬럼 + pending(id) (flush 는 batch 전에 pending 에서 먼저 빼므로 같은 증감을 두 번 세지 않는다)
+ * 항목은 제거하지 않는다(증감과 제거 사이 경쟁으로 값이 사라지지 않도록). 크기는 토글된 대상 수로 제한됨.
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    public enum Target {
+        POST("update posts set like_count = like_count + ? where id = ?"),
+        NEWS("update news_briefings set like_count = like_count + ? where id = ?");
+
+        private final String sql;
+
+        Target(String sql) { this.sql = sql; }
+    }
+
+    private final boolean enabled;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> deltas = Map.of(
+            Target.POST, new ConcurrentHashMap<>(),
+            Target.NEWS, new ConcurrentHashMap<>());
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LikeCountBuffer(@Value("${app.likes.write-behind.enabled:false}") boolean enabled,
+                           JdbcTemplate jdbc, PlatformTransactionManager txManager) {
+        this.enabled = enabled;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void add(Target target, Long id, long delta) {
+        if (delta == 0) return;
+        AfterCommit.run(() -> deltas.get(target).computeIfAbsent(id, k -> new LongAdder()).add(delta));
+    }
+
+    public long pending(Target target, Long id) {
+        if (!enabled) return 0;
+        LongAdder a = deltas.get(target).get(id);
+        return a == null ? 0 : a.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.likes.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled) return;
+        flushLock.lock();
+        try {
+            for (Target target : Target.values()) flush(target);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(Target target) {
+        List<Object[]> args = new ArrayList<>();
+        List<LongAdder> adders = new ArrayList<>();
+        List<Long> sums = new ArrayList<>();
+        deltas.get(target).forEach((id, adder) -> {
+            long d = adder.sum();
+            if (d == 0) return;
+            args.add(new Object[]{d, id});
+            adders.add(adder);
+            sums.add(d);
+        });
+        if (args.isEmpty()) return;
+        // 반영할 만큼을 batch 전에 먼저 뺀다: 커밋 후에 빼면 그 사이 "컬럼 + pending" 조회가 같은 증감을 두 번 센다
+        // (flush 도중 들어온 증감은 그대로 남는다)
+        for (int i = 0; i < adders.size(); i++) adders.get(i).add(-sums.get(i));
+        try {
+            tx.executeWithoutResult(status -> jdbc.batchUpdate(target.sql, args)); // 부분 반영 방지
+        } catch (RuntimeException e) {
+            for (int i = 0; i < adders.size(); i++) adders.get(i).add(sums.get(i)); // 되돌려 다음 주기에 다시 시도
+            log.warn("[likes] write-behind flush failed target={} size={} msg={}", target, args.size(), e.getMessage());
+            return;
+        }
+        log.debug("[likes] write-behind flushed target={} ids={}", target, args.size());
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.myproject.cache;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.example.myproject.dto.post.PostSummary;
+import org.example.myproject.util.AfterCommit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 홈 화면 고정글 한 건을 메모리에 보관하는 슬롯.
+ * 고정글은 거의 바뀌지 않으므로 조회 시 DB 를 타지 않고, 변경 쪽(PostService / LikeService / CategoryService)에서
+ * 커밋 직후 새 값으로 통째로 교체한다. 공개 / 관리자 응답은 같은 값에서 isPrivate 로 갈라 낸다.
+ */
+@Component
+public class PinnedPostSlot {
+
+    // null = 아직 적재 전(또는 무효화됨), Slot(null) = 고정글 없음
+    private final AtomicReference<Slot> slot = new AtomicReference<>();
+
+    private record Slot(PostSummary post) {}
+
+    public PostSummary get(boolean admin, Supplier<PostSummary> loader) {
+        Slot s = slot.get();
+        if (s == null) {
+            Slot loaded = new Slot(loader.get());
+            s = slot.compareAndSet(null, loaded) ? loaded : slot.get();
+            if (s == null) s = loaded;
+        }
+        PostSummary p = s.post();
+        if (p == null) return null;
+        return (p.isPrivate() && !admin) ? null : p;
+    }
+
+    /** 기동 시 / 재적재 */
+    public void load(PostSummary pinned) {
+        slot.set(new Slot(pinned));
+    }
+
+    public void set(PostSummary pinned) {
+        AfterCommit.run(() -> slot.set(new Slot(pinned)));
+    }
+
+    /** 현재 고정글이 id 일 때만 값을 바꿈 (수정 / 좋아요 수 변경) */
+    public void replaceIfCurrent(Long id, UnaryOperator<PostSummary> change) {
+        AfterCommit.run(() -> slot.updateAndGet(s -> isCurrent(s, id) ? new Slot(change.apply(s.post())) : s));
+    }
+
+    /** 현재 고정글이 id 일 때만 비움 (고정 해제 / 삭제) */
+    public void removeIfCurrent(Long id) {
+        AfterCommit.run(() -> slot.updateAndGet(s -> isCurrent(s, id) ? new Slot(null) : s));
+    }
+
+    /** 카테고리 이름 변경 등 요약 값 일부가 바뀐 경우: 다음 조회 때 다시 적재 */
+    public void invalidate() {
+        AfterCommit.run(() -> slot.set(null));
+    }
+
+    private static boolean isCurrent(Slot s, Long id) {
+        return s != null && s.post() != null && s.post().id().equals(id);
+    }
+}
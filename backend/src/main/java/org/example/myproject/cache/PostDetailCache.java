@@ -0,0 +1,150 @@
+package org.example.myproject.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.example.myproject.dto.post.PostDetail;
+import org.example.myproject.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 상세(PostDetail) read-through 캐시.
+ * - 용량 기준은 개수가 아니라 대략적인 바이트 크기(본문 html/md 문자열 위주)이며, 넘치면 LRU 순으로 제거
+ * - 수정 / 고정 / 삭제 / 좋아요 토글 시 해당 글만 무효화 (커밋 직후 한 번 더 무효화해 경쟁 조회로 인한 stale 방지)
+ * - 무효화마다 세대(generation)를 올리고, 조회 측은 DB 를 읽기 전에 stamp 를 받아 put 때 비교한다.
+ *   커밋 전 행을 읽은 조회가 커밋 후 무효화보다 늦게 put 해 stale 값을 되살리는 경쟁을 막음
+ *   (세대는 id 해시로 나눈 고정 크기 배열이라 메모리가 늘지 않음, 같은 칸의 다른 글 무효화는 put 한 번을 건너뛸 뿐)
+ * - 지표: cache.gets{result=hit|miss}, cache.evictions, cache.size, cache.weight (cache=postDetail)
+ */
+@Component
+public class PostDetailCache {
+
+    private static final String NAME = "postDetail";
+    private static final long ENTRY_OVERHEAD = 256;
+    private static final int GENERATION_SLOTS = 1024;
+
+    private final long maxWeight;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+    private final long[] generations = new long[GENERATION_SLOTS];
+    private long clearGeneration;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private record Entry(PostDetail detail, long weight) {}
+
+    public PostDetailCache(@Value("${app.cache.post-detail.max-bytes:33554432}") long maxWeight,
+                           MeterRegistry registry) {
+        this.maxWeight = maxWeight;
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", NAME).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", NAME).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", NAME).register(registry);
+        Gauge.builder("cache.size", this, PostDetailCache::size)
+                .tag("cache", NAME).register(registry);
+        Gauge.builder("cache.weight", this, PostDetailCache::weight)
+                .tag("cache", NAME).baseUnit("bytes").register(registry);
+    }
+
+    public synchronized PostDetail get(Long id) {
+        Entry e = entries.get(id);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e.detail();
+    }
+
+    /** 적중 통계에 잡히지 않는 조회 (조건부 GET 검증자 계산용) */
+    public synchronized PostDetail peek(Long id) {
+        Entry e = entries.get(id);
+        return e == null ? null : e.detail();
+    }
+
+    /** DB 에서 읽기 전에 받아 put 에 넘김 */
+    public synchronized long stamp(Long id) {
+        return generations[slot(id)] + clearGeneration;
+    }
+
+    /** stamp 이후 해당 글이 무효화됐으면 저장하지 않음 */
+    public synchronized void put(PostDetail detail, long stamp) {
+        if (stamp(detail.id()) != stamp) return;
+        long w = weigh(detail);
+        if (w > maxWeight) return; // 단일 항목이 전체 용량보다 크면 캐시하지 않음
+        Entry old = entries.put(detail.id(), new Entry(detail, w));
+        if (old != null) weight -= old.weight();
+        weight += w;
+        Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+        while (weight > maxWeight && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            weight -= eldest.weight();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 조회수 flush 분만큼 캐시 항목을 고쳐 둔다 (무효화하지 않음: 인기 글이 flush 주기마다 캐시에서 빠지지 않도록).
+     * 진행 중인 조회가 flush 이전 값을 put 하지 않게 세대는 올린다.
+     */
+    public synchronized void addViews(Long id, long delta) {
+        generations[slot(id)]++;
+        Entry e = entries.get(id);
+        if (e == null) return;
+        entries.put(id, new Entry(e.detail().withViewCount(e.detail().viewCount() + delta), e.weight()));
+    }
+
+    public void evict(Long id) {
+        remove(id);
+        AfterCommit.run(() -> remove(id));
+    }
+
+    public void clear() {
+        removeAll();
+        AfterCommit.run(this::removeAll);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    private synchronized void remove(Long id) {
+        generations[slot(id)]++;
+        Entry e = entries.remove(id);
+        if (e != null) weight -= e.weight();
+    }
+
+    private synchronized void removeAll() {
+        entries.clear();
+        weight = 0;
+        clearGeneration++;
+    }
+
+    private static int slot(Long id) {
+        return Math.floorMod(Long.hashCode(id), GENERATION_SLOTS);
+    }
+
+    // Java 문자열은 UTF-16 기준 문자당 2바이트로 추정
+    private static long weigh(PostDetail d) {
+        return ENTRY_OVERHEAD
+                + 2L * (len(d.contentHtml()) + len(d.contentMd()) + len(d.title()));
+    }
+
+    private static int len(String s) {
+        return s == null ? 0 : s.length();
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.myproject.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 조회수 버퍼. 상세 조회마다 UPDATE 하지 않고 글별 LongAdder 에 모았다가
+ * 주기적으로 / 종료 시 post_stats.view_count 에 batch 반영한다.
+ * 반영된 만큼은 상세 캐시 항목에 더해 두고(무효화하지 않음), 아직 반영 전인 값은 pending 으로 조회 시 얹는다.
+ */
+@Slf4j
+@Component
+public class PostViewBuffer {
+
+    private static final String SQL = "update post_stats set view_count = view_count + ? where post_id = ?";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final PostDetailCache detailCache;
+    private final ConcurrentHashMap<Long, LongAdder> views = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public PostViewBuffer(JdbcTemplate jdbc, PlatformTransactionManager txManager, PostDetailCache detailCache) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.detailCache = detailCache;
+    }
+
+    public void increment(Long postId) {
+        views.computeIfAbsent(postId, k -> new LongAdder()).increment();
+    }
+
+    /** 아직 post_stats 에 반영되지 않은 조회수 */
+    public long pending(Long postId) {
+        LongAdder a = views.get(postId);
+        return a == null ? 0 : a.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.view-flush-interval-ms:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Object[]> args = new ArrayList<>();
+            List<LongAdder> adders = new ArrayList<>();
+            views.forEach((id, adder) -> {
+                long n = adder.sum();
+                if (n == 0) return;
+                args.add(new Object[]{n, id});
+                adders.add(adder);
+            });
+            if (args.isEmpty()) return;
+            try {
+                tx.executeWithoutResult(status -> jdbc.batchUpdate(SQL, args));
+            } catch (RuntimeException e) {
+                log.warn("[stats] view flush failed size={} msg={}", args.size(), e.getMessage());
+                return; // 다음 주기에 다시 시도
+            }
+            // 반영한 만큼만 빼서 flush 도중 들어온 조회는 남겨 둔다 (캐시 항목에 먼저 더해 합계가 줄어 보이지 않게)
+            for (int i = 0; i < adders.size(); i++) {
+                long n = (long) args.get(i)[0];
+                detailCache.addViews((Long) args.get(i)[1], n);
+                adders.get(i).add(-n);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
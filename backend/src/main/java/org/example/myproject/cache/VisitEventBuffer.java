@@ -0,0 +1,226 @@
+package org.example.myproject.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.service.VisitSketchService;
+import org.example.myproject.util.HyperLogLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 새 방문자 기록 파이프라인. 요청 스레드는 offer 만 하고 바로 응답한다.
+ * - 큐는 ConcurrentLinkedQueue + AtomicInteger 크기 제한 (잠금 없음), 가득 차면 버리고 false
+ * - 백그라운드 flush 가 batch-size 건씩 꺼내 visit_seen 을 JDBC batch insert ignore 하고,
+ *   날짜별 증가분은 flush 당 날짜마다 upsert 한 번으로 visit_daily_count 에 합친다 (한 트랜잭션)
+ * - 같은 트랜잭션에서 날짜별 지문 HyperLogLog 를 저장된 스케치에 합침 (VisitSketchService.mergeDay)
+ * - 실패한 묶음은 큐에 다시 넣어 max-attempts 까지 재시도. 제약 위반(잘못된 행)이면 한 건씩 다시 써서 나머지는 살린다
+ * - 끝내 버리는 방문은 VisitorDedupe 표시 / 오늘 수 / 누적 수에서 되돌려 다음 요청에서 다시 세게 하고,
+ *   insert ignore 로 건너뛴 중복은 오늘 수 / 누적 수만 되돌린다 (지난 날짜면 누적 수만)
+ * visit_seen 은 IDENTITY 그대로: Hibernate 가 IDENTITY 엔티티의 insert 배칭을 끄는 것이 문제였고,
+ * 여기서는 JdbcTemplate 로 id 컬럼 없이 직접 batch 하므로 드라이버 batch 가 그대로 적용된다.
+ * 지표: visit.events{outcome=queued|dropped|written|duplicate|failed}, visit.queue.size
+ */
+@Slf4j
+@Component
+public class VisitEventBuffer {
+
+    public record VisitEvent(LocalDate date, String fpHash, String ipHash, String uaHash, LocalDateTime at, int attempts) {
+        VisitEvent retry() {
+            return new VisitEvent(date, fpHash, ipHash, uaHash, at, attempts + 1);
+        }
+    }
+
+    private static final String INSERT_SEEN =
+            "insert ignore into visit_seen (visit_date, fp_hash, ip_hash, ua_hash, created_at) values (?, ?, ?, ?, ?)";
+    private static final String UPSERT_DAILY =
+            "insert into visit_daily_count (date, count) values (?, ?) on duplicate key update count = count + ?";
+
+    private final ConcurrentLinkedQueue<VisitEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final VisitSketchService sketches;
+    private final VisitorDedupe dedupe;
+    private final VisitTotalCounter totalCounter;
+    private final int capacity;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Counter queued;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter duplicate;
+    private final Counter failed;
+
+    public VisitEventBuffer(JdbcTemplate jdbc, PlatformTransactionManager txManager, MeterRegistry registry,
+                            VisitSketchService sketches, VisitorDedupe dedupe, VisitTotalCounter totalCounter,
+                            @Value("${app.visit.queue-capacity:10000}") int capacity,
+                            @Value("${app.visit.batch-size:500}") int batchSize,
+                            @Value("${app.visit.max-attempts:3}") int maxAttempts) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.sketches = sketches;
+        this.dedupe = dedupe;
+        this.totalCounter = totalCounter;
+        this.capacity = capacity;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.queued = counter(registry, "queued");
+        this.dropped = counter(registry, "dropped");
+        this.written = counter(registry, "written");
+        this.duplicate = counter(registry, "duplicate");
+        this.failed = counter(registry, "failed");
+        Gauge.builder("visit.queue.size", size, AtomicInteger::get).register(registry);
+    }
+
+    private static Counter counter(MeterRegistry registry, String outcome) {
+        return Counter.builder("visit.events").tag("outcome", outcome).register(registry);
+    }
+
+    /** @return 큐가 가득 차 버렸으면 false */
+    public boolean offer(VisitEvent event) {
+        if (!reserve()) {
+            dropped.increment();
+            return false;
+        }
+        queue.offer(event);
+        queued.increment();
+        return true;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    @Scheduled(fixedDelayString = "${app.visit.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            // 한 주기에 지금 쌓인 만큼만 처리 (재시도로 다시 들어온 건은 다음 주기)
+            int pending = size.get();
+            while (pending > 0) {
+                int n = flushBatch(Math.min(pending, batchSize));
+                if (n == 0) break;
+                pending -= n;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private int flushBatch(int max) {
+        List<VisitEvent> batch = new ArrayList<>(max);
+        VisitEvent e;
+        while (batch.size() < max && (e = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(e);
+        }
+        if (batch.isEmpty()) return 0;
+
+        try {
+            write(batch);
+        } catch (DataIntegrityViolationException ex) {
+            // 한 행 때문에 묶음 전체가 재시도되지 않도록 한 건씩 다시 씀
+            log.warn("[visit] flush rejected size={} msg={} → retrying row by row", batch.size(), ex.getMessage());
+            for (VisitEvent v : batch) {
+                try {
+                    write(List.of(v));
+                } catch (RuntimeException rowEx) {
+                    retryOrDrop(v);
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("[visit] flush failed size={} msg={}", batch.size(), ex.getMessage());
+            for (VisitEvent v : batch) retryOrDrop(v);
+        }
+        return batch.size();
+    }
+
+    private void write(List<VisitEvent> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (VisitEvent v : batch) {
+            rows.add(new Object[]{Date.valueOf(v.date()), v.fpHash(), v.ipHash(), v.uaHash(), Timestamp.valueOf(v.at())});
+        }
+        List<VisitEvent> skipped = tx.execute(status -> {
+            int[] results = jdbc.batchUpdate(INSERT_SEEN, rows);
+            // 날짜별 실제 삽입 건수 (드라이버가 건별 결과를 주지 않으면 삽입으로 간주: 지문은 VisitorDedupe 가 이미 걸렀음)
+            Map<LocalDate, Integer> perDay = new TreeMap<>();
+            List<VisitEvent> notInserted = new ArrayList<>();
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == 0 || (results[i] < 0 && results[i] != Statement.SUCCESS_NO_INFO)) {
+                    notInserted.add(batch.get(i));
+                    continue;
+                }
+                perDay.merge(batch.get(i).date(), 1, Integer::sum);
+            }
+            List<Object[]> daily = new ArrayList<>(perDay.size());
+            perDay.forEach((date, n) -> daily.add(new Object[]{Date.valueOf(date), n, n}));
+            if (!daily.isEmpty()) jdbc.batchUpdate(UPSERT_DAILY, daily);
+            // 스케치는 합집합이라 중복 / 재시도된 지문을 걸러낼 필요 없음
+            Map<LocalDate, HyperLogLog> perDaySketch = new TreeMap<>();
+            for (VisitEvent v : batch) {
+                perDaySketch.computeIfAbsent(v.date(), d -> new HyperLogLog()).add(VisitorDedupe.key(v.fpHash()));
+            }
+            perDaySketch.forEach(sketches::mergeDay);
+            return notInserted;
+        });
+        written.increment(batch.size() - skipped.size());
+        duplicate.increment(skipped.size());
+        // 이미 저장된 지문: 일 카운트에 더해지지 않았으므로 요청 시점에 센 값만 되돌림 (표시는 유지)
+        for (VisitEvent v : skipped) uncount(v, false);
+    }
+
+    private void retryOrDrop(VisitEvent v) {
+        if (v.attempts() + 1 < maxAttempts && reserve()) {
+            queue.offer(v.retry());
+            return;
+        }
+        failed.increment();
+        uncount(v, true); // 다음 요청에서 다시 세도록 표시도 해제
+    }
+
+    /**
+     * 요청 시점에 미리 센 오늘 수 / 누적 수를 되돌린다 (누적 수 = 저장된 일 카운트 합계와 맞춤).
+     * 지난 날짜 방문은 오늘 집합 / 오늘 수에 들어 있지 않으므로 누적 수만 되돌린다.
+     */
+    private void uncount(VisitEvent v, boolean unmark) {
+        if (dedupe.isLoaded(v.date())) {
+            if (unmark) dedupe.unmark(v.date(), VisitorDedupe.key(v.fpHash()));
+            dedupe.decrement(v.date());
+        }
+        totalCounter.decrement();
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int cur = size.get();
+            if (cur >= capacity) return false;
+            if (size.compareAndSet(cur, cur + 1)) return true;
+        }
+    }
+}
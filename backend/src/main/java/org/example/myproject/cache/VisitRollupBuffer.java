@@ -0,0 +1,155 @@
+package org.example.myproject.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 시간 × 경로 × 유입 호스트 단위 방문 카운터. 요청마다 LongAdder 만 올리고
+ * flush-interval-ms 마다 visit_hourly 에 upsert (PostViewBuffer 와 같은 방식: 반영한 만큼만 뺌).
+ * 경로 / 호스트 조합이 max-keys 를 넘으면 새 조합은 "(other)" 로 모아 메모리를 제한한다.
+ */
+@Slf4j
+@Component
+public class VisitRollupBuffer {
+
+    public static final String OTHER = "(other)";
+    private static final int MAX_PATH = 200;
+    private static final int MAX_HOST = 100;
+
+    private static final String UPSERT = """
+        insert into visit_hourly (bucket_hour, path, referrer_host, views, uniques) values (?, ?, ?, ?, ?)
+        on duplicate key update views = views + ?, uniques = uniques + ?
+    """;
+
+    private record Key(LocalDateTime hour, String path, String referrerHost) {}
+
+    private static final class Counts {
+        final LongAdder views = new LongAdder();
+        final LongAdder uniques = new LongAdder();
+    }
+
+    private final ConcurrentHashMap<Key, Counts> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final int maxKeys;
+
+    public VisitRollupBuffer(JdbcTemplate jdbc, PlatformTransactionManager txManager,
+                             @Value("${app.analytics.max-keys:20000}") int maxKeys) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * @param path         방문 경로 (쿼리스트링 제외, 없으면 "/")
+     * @param referrerHost 외부 유입 호스트 (직접 / 내부 이동은 "")
+     * @param unique       이번 요청이 오늘 처음 집계된 방문자인지
+     */
+    public void record(LocalDateTime at, String path, String referrerHost, boolean unique) {
+        Key key = new Key(at.truncatedTo(ChronoUnit.HOURS), path, referrerHost);
+        Counts c = buckets.get(key);
+        if (c == null) {
+            if (buckets.size() >= maxKeys) key = new Key(key.hour(), OTHER, OTHER);
+            c = buckets.computeIfAbsent(key, k -> new Counts());
+        }
+        c.views.increment();
+        if (unique) c.uniques.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval-ms:60000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Object[]> args = new ArrayList<>();
+            List<Counts> counts = new ArrayList<>();
+            List<long[]> sums = new ArrayList<>();
+            buckets.forEach((k, c) -> {
+                long v = c.views.sum();
+                long u = c.uniques.sum();
+                if (v == 0 && u == 0) return;
+                args.add(new Object[]{Timestamp.valueOf(k.hour()), k.path(), k.referrerHost(), v, u, v, u});
+                counts.add(c);
+                sums.add(new long[]{v, u});
+            });
+            if (!args.isEmpty()) {
+                try {
+                    tx.executeWithoutResult(status -> jdbc.batchUpdate(UPSERT, args));
+                } catch (RuntimeException e) {
+                    log.warn("[analytics] hourly flush failed size={} msg={}", args.size(), e.getMessage());
+                    return; // 다음 주기에 다시 시도
+                }
+                for (int i = 0; i < counts.size(); i++) {
+                    counts.get(i).views.add(-sums.get(i)[0]);
+                    counts.get(i).uniques.add(-sums.get(i)[1]);
+                }
+            }
+            // 지난 시간 버킷은 반영이 끝났으면 제거 (현재 시간 버킷은 계속 쓰이므로 유지)
+            LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+            buckets.entrySet().removeIf(e -> e.getKey().hour().isBefore(currentHour.minusHours(1))
+                    && e.getValue().views.sum() == 0 && e.getValue().uniques.sum() == 0);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /** "/posts/12?x=1#a" → "/posts/12", 비어 있으면 "/" */
+    public static String normalizePath(String raw) {
+        if (raw == null || raw.isBlank()) return "/";
+        String p = raw.trim();
+        try {
+            if (p.startsWith("http://") || p.startsWith("https://")) p = URI.create(p).getRawPath();
+        } catch (IllegalArgumentException e) {
+            return OTHER;
+        }
+        if (p == null || p.isEmpty()) return "/";
+        int cut = indexOfAny(p, '?', '#');
+        if (cut >= 0) p = p.substring(0, cut);
+        if (!p.startsWith("/")) p = "/" + p;
+        return p.length() > MAX_PATH ? p.substring(0, MAX_PATH) : p;
+    }
+
+    /** document.referrer → 호스트 (소문자). 없거나 selfHost 와 같으면 "" */
+    public static String referrerHost(String referrer, String selfHost) {
+        if (referrer == null || referrer.isBlank()) return "";
+        try {
+            String host = URI.create(referrer.trim()).getHost();
+            if (host == null) return "";
+            host = host.toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) host = host.substring(4);
+            if (selfHost != null && host.equalsIgnoreCase(selfHost.startsWith("www.") ? selfHost.substring(4) : selfHost)) return "";
+            return host.length() > MAX_HOST ? host.substring(0, MAX_HOST) : host;
+        } catch (IllegalArgumentException e) {
+            return OTHER;
+        }
+    }
+
+    private static int indexOfAny(String s, char a, char b) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == a || c == b) return i;
+        }
+        return -1;
+    }
+}
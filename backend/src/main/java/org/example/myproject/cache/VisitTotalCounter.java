@@ -0,0 +1,39 @@
+package org.example.myproject.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 누적 방문자 수. visit_daily_count 합계를 기동 시 SUM 한 번으로 읽어 두고 새 방문자마다 +1.
+ * DB 쪽은 VisitEventBuffer 가 반영하는 일별 행 증가가 곧 영속화이므로 별도 저장이 없다. (합계 = SUM(count))
+ */
+@Component
+public class VisitTotalCounter {
+
+    private static final long UNSET = -1;
+
+    private final AtomicLong total = new AtomicLong(UNSET);
+
+    public void seed(long sum) {
+        total.set(sum);
+    }
+
+    /** 기동 직후 초기화 전에 요청이 오면 loader(SUM) 로 한 번 채움 */
+    public long get(LongSupplier loader) {
+        long v = total.get();
+        if (v != UNSET) return v;
+        total.compareAndSet(UNSET, loader.getAsLong());
+        return total.get();
+    }
+
+    /** 새 방문자가 기록 큐에 들어간 시점에 +1 (DB 반영은 비동기) */
+    public void increment() {
+        total.updateAndGet(v -> v == UNSET ? UNSET : v + 1);
+    }
+
+    /** 기록 큐에서 끝내 버려진 방문만큼 되돌림 */
+    public void decrement() {
+        total.updateAndGet(v -> v == UNSET ? UNSET : Math.max(0, v - 1));
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.myproject.cache;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.util.LongHashSet;
+import org.example.myproject.util.Sha256;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오늘 방문자 지문(fp) 집합. 재방문은 여기서 걸러져 visit_seen 조회 / 저장 없이 끝난다.
+ * - 키는 fp 의 SHA-256 앞 64비트 (LongHashSet 에 박싱 없이 저장, 10만 명/일 기준 충돌 확률 ~3e-10)
+ * - 기동 시 VisitorDedupeInitializer 가 오늘 visit_seen 으로 다시 채우고, 날짜가 바뀌면 새 집합으로 교체
+ * - 오늘 방문자 수도 함께 들고 있어 재방문 응답에 DB 를 쓰지 않는다
+ */
+@Slf4j
+@Component
+public class VisitorDedupe {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final class Day {
+        final LocalDate date;
+        final LongHashSet seen;
+        final AtomicLong count;
+
+        Day(LocalDate date, LongHashSet seen, long count) {
+            this.date = date;
+            this.seen = seen;
+            this.count = new AtomicLong(count);
+        }
+    }
+
+    private volatile Day day;
+
+    public static long key(String fp) {
+        return Sha256.prefix64(fp);
+    }
+
+    /** 기동 시 / 재적재: 해당 날짜의 지문 전체와 저장된 일 방문자 수 */
+    public void load(LocalDate date, Collection<String> fps, long dailyCount) {
+        LongHashSet set = new LongHashSet(Math.max(INITIAL_CAPACITY, fps.size()));
+        for (String fp : fps) set.add(key(fp));
+        day = new Day(date, set, dailyCount);
+        log.info("[visit] dedupe loaded date={} visitors={} dailyCount={}", date, set.size(), dailyCount);
+    }
+
+    public boolean isLoaded(LocalDate date) {
+        Day d = day;
+        return d != null && d.date.equals(date);
+    }
+
+    /** 처음 보는 지문이면 표시하고 true. 기록하지 못한 방문은 호출 측이 unmark 로 되돌린다. */
+    public boolean markIfAbsent(LocalDate date, long key) {
+        Day d = current(date);
+        synchronized (d.seen) {
+            return d.seen.add(key);
+        }
+    }
+
+    /** 기록 큐가 가득 차 버려진 방문: 다음 요청에서 다시 세도록 표시 해제 */
+    public void unmark(LocalDate date, long key) {
+        Day d = current(date);
+        synchronized (d.seen) {
+            d.seen.remove(key);
+        }
+    }
+
+    public long increment(LocalDate date) {
+        return current(date).count.incrementAndGet();
+    }
+
+    /** 기록하지 못하고 버린 방문만큼 되돌림 */
+    public void decrement(LocalDate date) {
+        current(date).count.updateAndGet(v -> Math.max(0, v - 1));
+    }
+
+    public long dailyCount(LocalDate date) {
+        return current(date).count.get();
+    }
+
+    // 자정 직후 미리 교체해 전날 집합 메모리를 돌려받음 (요청 시점에도 날짜를 확인하므로 늦어도 무방)
+    @Scheduled(cron = "${app.visit.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        current(LocalDate.now());
+    }
+
+    private Day current(LocalDate date) {
+        Day d = day;
+        if (d != null && d.date.equals(date)) return d;
+        synchronized (this) {
+            d = day;
+            if (d == null || d.date.isBefore(date)) {
+                d = new Day(date, new LongHashSet(INITIAL_CAPACITY), 0);
+                day = d;
+            } else if (!d.date.equals(date)) {
+                // 자정 경계에서 늦게 도착한 전날 요청: 오늘 집합에 섞지 않도록 임시 집합으로 처리
+                return new Day(date, new LongHashSet(16), 0);
+            }
+            return d;
+        }
+    }
+}
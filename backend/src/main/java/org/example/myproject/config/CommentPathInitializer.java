@@ -0,0 +1,43 @@
+package org.example.myproject.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.repository.comment.CommentRepository;
+import org.example.myproject.repository.news.NewsCommentRepository;
+import org.example.myproject.util.CommentPath;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 답글 스레드 도입 이전 댓글(path 없음)을 각자 최상위 댓글로 채운다. 이미 채워져 있으면 아무것도 하지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPathInitializer implements ApplicationRunner {
+
+    private final CommentRepository comments;
+    private final NewsCommentRepository newsComments;
+    private final JdbcTemplate jdbc;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int posts = backfill("comments", comments.findIdsWithoutPath());
+        int news = backfill("news_comments", newsComments.findIdsWithoutPath());
+        if (posts + news > 0) log.info("[comments] path backfilled comments={} news={}", posts, news);
+    }
+
+    private int backfill(String table, List<Long> ids) {
+        if (ids.isEmpty()) return 0;
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (Long id : ids) args.add(new Object[]{id, CommentPath.segment(id), id});
+        jdbc.batchUpdate("update " + table + " set parent_id = null, root_id = ?, depth = 0, path = ? where id = ?", args);
+        return ids.size();
+    }
+}
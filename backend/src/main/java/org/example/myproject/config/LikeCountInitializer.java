@@ -0,0 +1,83 @@
+package org.example.myproject.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * posts / news_briefings 의 like_count 를 좋아요 테이블 기준으로 채우는 1회성 보정.
+ * - 좋아요는 있는데 like_count 가 전부 0 이면(컬럼이 막 추가됨) 자동으로, 그 외에는 resync-on-startup=true 일 때만 수행
+ * - id 구간(batch-size)마다 짧은 트랜잭션 하나로 갱신 → 서비스 중에 테이블 전체를 잠그지 않음
+ * 보정은 저장된 컬럼을 덮어쓰므로 write-behind 를 켠 다른 인스턴스가 돌고 있으면 그쪽 미반영 증감이 사라진다.
+ * (수동 보정은 다른 인스턴스를 내린 상태에서)
+ */
+@Slf4j
+@Component
+public class LikeCountInitializer implements ApplicationRunner {
+
+    private enum Table {
+        POST("posts", "post_likes", "post_id"),
+        NEWS("news_briefings", "news_likes", "briefing_id");
+
+        private final String name;
+        private final String likes;
+        private final String fk;
+
+        Table(String name, String likes, String fk) {
+            this.name = name;
+            this.likes = likes;
+            this.fk = fk;
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final boolean resync;
+    private final int batchSize;
+
+    public LikeCountInitializer(JdbcTemplate jdbc, PlatformTransactionManager txManager,
+                                @Value("${app.likes.resync-on-startup:false}") boolean resync,
+                                @Value("${app.likes.resync-batch-size:1000}") int batchSize) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.resync = resync;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (Table t : Table.values()) {
+            if (!resync && !justAdded(t)) continue;
+            int updated = backfill(t);
+            log.info("[likes] like_count backfilled table={} rows={}", t.name, updated);
+        }
+    }
+
+    // 좋아요 행이 있는데 0 이 아닌 like_count 가 하나도 없으면 컬럼 추가 직후로 본다
+    private boolean justAdded(Table t) {
+        boolean hasLikes = !jdbc.queryForList("select 1 from " + t.likes + " limit 1", Integer.class).isEmpty();
+        if (!hasLikes) return false;
+        return jdbc.queryForList("select 1 from " + t.name + " where like_count <> 0 limit 1", Integer.class).isEmpty();
+    }
+
+    private int backfill(Table t) {
+        Long maxId = jdbc.queryForObject("select max(id) from " + t.name, Long.class);
+        if (maxId == null) return 0;
+        String update = "update " + t.name + " p set like_count ="
+                + " (select count(*) from " + t.likes + " l where l." + t.fk + " = p.id)"
+                + " where p.id > ? and p.id <= ?";
+        int total = 0;
+        for (long from = 0; from < maxId; from += batchSize) {
+            long lo = from;
+            long hi = from + batchSize;
+            Integer n = tx.execute(status -> jdbc.update(update, lo, hi));
+            total += n == null ? 0 : n;
+        }
+        return total;
+    }
+}
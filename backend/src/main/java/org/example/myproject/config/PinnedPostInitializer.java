@@ -0,0 +1,25 @@
+package org.example.myproject.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.service.PostService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 고정글 슬롯을 DB 기준으로 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PinnedPostInitializer implements ApplicationRunner {
+
+    private final PostService posts;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var pinned = posts.refreshPinned();
+        log.info("[pinned] slot loaded postId={}", pinned == null ? null : pinned.id());
+    }
+}
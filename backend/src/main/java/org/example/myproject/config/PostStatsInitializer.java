@@ -0,0 +1,22 @@
+package org.example.myproject.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.service.PostStatsService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 post_stats 를 한 번 보정한다. (기능 도입 이전 글의 행 생성 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostStatsInitializer implements ApplicationRunner {
+
+    private final PostStatsService postStats;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        postStats.reconcile();
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.myproject.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.myproject.entity.user.User;
+import org.example.myproject.security.RateLimitProperties;
+import org.example.myproject.security.TokenBucketRateLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 정책에 걸리는 요청만 TokenBucketRateLimiter 로 검사하고 초과 시 429 + Retry-After.
+ * JwtAuthFilter 다음에 두어 로그인 사용자는 user id 로, 그 외는 원격 주소로 구분한다.
+ * 원격 주소는 Tomcat RemoteIpValve 가 X-Forwarded-For 를 오른쪽부터 신뢰 프록시(internal-proxies)만 건너뛰고 고른 값이라
+ * 클라이언트가 헤더를 임의로 채워도 키가 바뀌지 않는다.
+ * 지표: ratelimit.requests{policy, outcome=allowed|rejected}, 공용 버킷으로 넘어간 건은 outcome=overflow 도 함께 셈
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Route(RateLimitProperties.Policy policy, long intervalNanos,
+                         Counter allowed, Counter rejected, Counter overflow) {}
+
+    private final TokenBucketRateLimiter limiter;
+    private final List<Route> routes;
+    private final boolean enabled;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    public RateLimitFilter(TokenBucketRateLimiter limiter, RateLimitProperties props, MeterRegistry registry) {
+        this.limiter = limiter;
+        this.enabled = props.isEnabled();
+        this.routes = props.getPolicies().stream()
+                .filter(p -> p.getPerMinute() > 0 && p.getCapacity() > 0)
+                .map(p -> new Route(p, TimeUnit.MINUTES.toNanos(1) / p.getPerMinute(),
+                        counter(registry, p, "allowed"), counter(registry, p, "rejected"), counter(registry, p, "overflow")))
+                .toList();
+    }
+
+    private static Counter counter(MeterRegistry registry, RateLimitProperties.Policy p, String outcome) {
+        return Counter.builder("ratelimit.requests").tag("policy", p.getName()).tag("outcome", outcome).register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        return !enabled || routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        Route route = match(req);
+        if (route != null) {
+            var policy = route.policy();
+            String key = policy.getName() + ":" + clientKey(req, policy.getKey());
+            var decision = limiter.tryAcquire(key, policy.getName(), route.intervalNanos(), policy.getCapacity());
+            if (decision.shared()) route.overflow().increment();
+            if (!decision.allowed()) {
+                route.rejected().increment();
+                res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+                res.setContentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8).toString());
+                res.getWriter().write("Too Many Requests");
+                return;
+            } else {
+                route.allowed().increment();
+            }
+        }
+        chain.doFilter(req, res);
+    }
+
+    private Route match(HttpServletRequest req) {
+        String path = req.getRequestURI().substring(req.getContextPath().length());
+        for (Route r : routes) {
+            if (!r.policy().getMethod().equalsIgnoreCase(req.getMethod())) continue;
+            for (String pattern : r.policy().getPaths()) {
+                if (matcher.match(pattern, path)) return r;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest req, RateLimitProperties.KeyType type) {
+        if (type == RateLimitProperties.KeyType.USER_OR_IP) {
+            var auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.getPrincipal() instanceof User u) return "u" + u.getId();
+        }
+        return "ip" + req.getRemoteAddr();
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.myproject.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.entity.Post.Post;
+import org.example.myproject.repository.post.PostRepository;
+import org.example.myproject.search.PostSearchIndex;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 게시글 전체를 페이지 단위로 읽어 검색 역색인을 재구성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer implements ApplicationRunner {
+
+    private static final int BATCH = 100;
+
+    private final PostRepository posts;
+    private final PostSearchIndex index;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long t0 = System.currentTimeMillis();
+        index.clear();
+        int page = 0;
+        Page<Post> batch;
+        do {
+            batch = posts.findAll(PageRequest.of(page++, BATCH, Sort.by("id")));
+            batch.forEach(index::index);
+        } while (batch.hasNext());
+        log.info("[search] index rebuilt docs={} tookMs={}", index.size(), System.currentTimeMillis() - t0);
+    }
+}
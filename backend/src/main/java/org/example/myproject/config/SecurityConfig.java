@@ -1,8 +1,11 @@
 package org.example.myproject.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.Cookie;
 import org.example.myproject.repository.user.UserRepository;
 import org.example.myproject.security.JwtProvider;
+import org.example.myproject.security.RateLimitProperties;
+import org.example.myproject.security.TokenBucketRateLimiter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -25,7 +28,10 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http,
                                            JwtProvider jwtProvider,
-                                          UserRepository userRepository) throws Exception {
+                                          UserRepository userRepository,
+                                           TokenBucketRateLimiter rateLimiter,
+                                           RateLimitProperties rateLimitProperties,
+                                           MeterRegistry meterRegistry) throws Exception {
         http
                 .headers(h -> h.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
                 .csrf(AbstractHttpConfigurer::disable)
@@ -52,7 +58,9 @@ public class SecurityConfig {
                                 "/api/ping","/api/analytics/visit").permitAll()
                         .requestMatchers(HttpMethod.GET,
                                 "/api/categories","/api/categories/summary","/api/posts","/api/categories/*/posts","/api/posts/*","/api/posts/pinned",
-                                "/api/news","/api/news/*","/api/news/*/comments").permitAll()
+                                "/api/posts/*/html",
+                                "/api/news","/api/news/*","/api/news/*/comments","/api/news/*/html","/api/news/*/events",
+                                "/api/news/comments/*/thread").permitAll()
                         .anyRequest().authenticated()
                 )
                 .httpBasic(AbstractHttpConfigurer::disable)
@@ -62,6 +70,8 @@ public class SecurityConfig {
         // 🔑 쿠키의 ACCESS_TOKEN으로 인증 세팅
         http.addFilterBefore(new JwtAuthFilter(jwtProvider, userRepository),
                 org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.class);
+        // 인증 결과(user id)로 구분해야 하므로 JwtAuthFilter 뒤에서 요청 제한
+        http.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties, meterRegistry), JwtAuthFilter.class);
 
         return http.build();
     }
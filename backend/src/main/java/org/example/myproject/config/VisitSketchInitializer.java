@@ -0,0 +1,22 @@
+package org.example.myproject.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.service.VisitSketchService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 스케치가 비어 있는 날짜를 visit_seen 으로 채운다. (한 번 채워지면 이후에는 대상 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class VisitSketchInitializer implements ApplicationRunner {
+
+    private final VisitSketchService sketches;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        sketches.backfill();
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.myproject.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.cache.VisitTotalCounter;
+import org.example.myproject.repository.visit.VisitDailyCountRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 누적 방문자 수를 SUM 한 번으로 읽어 VisitTotalCounter 에 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VisitTotalInitializer implements ApplicationRunner {
+
+    private final VisitDailyCountRepository dailyRepo;
+    private final VisitTotalCounter totalCounter;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long sum = dailyRepo.sumCounts();
+        totalCounter.seed(sum);
+        log.info("[visit] total seeded={}", sum);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.myproject.config;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.cache.VisitorDedupe;
+import org.example.myproject.repository.visit.VisitDailyCountRepository;
+import org.example.myproject.repository.visit.VisitSeenRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기동 시 오늘 visit_seen 으로 방문자 중복 집합을 다시 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VisitorDedupeInitializer implements ApplicationRunner {
+
+    private final VisitSeenRepository seenRepo;
+    private final VisitDailyCountRepository dailyRepo;
+    private final VisitorDedupe dedupe;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        LocalDate today = LocalDate.now();
+        long daily = dailyRepo.findByDate(today).map(v -> v.getCount() == null ? 0 : v.getCount()).orElse(0L);
+        dedupe.load(today, seenRepo.findFpHashesByVisitDate(today), daily);
+    }
+}
@@ -2,9 +2,19 @@ package org.example.myproject.controller;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.example.myproject.dto.analytics.UniqueEstimate;
+import org.example.myproject.dto.analytics.VisitBucket;
+import org.example.myproject.dto.analytics.VisitRequest;
 import org.example.myproject.dto.analytics.VisitSummary;
 import org.example.myproject.service.AnalyticsService;
+import org.example.myproject.service.UserService;
+import org.example.myproject.service.VisitRollupService;
+import org.example.myproject.service.VisitSketchService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,10 +24,37 @@ import org.springframework.web.bind.annotation.*;
 public class AnalyticsController {
 
     private final AnalyticsService analytics;
+    private final VisitRollupService rollups;
+    private final VisitSketchService sketches;
+    private final UserService users;
 
     @PostMapping("/visit")
-    public ResponseEntity<VisitSummary> visit(HttpServletRequest req) {
-        return ResponseEntity.ok(analytics.visitOnce(req));
+    public ResponseEntity<VisitSummary> visit(HttpServletRequest req, @Valid @RequestBody(required = false) VisitRequest body) {
+        return ResponseEntity.ok(analytics.visitOnce(req, body));
+    }
+
+    // 관리자: 사전 집계 테이블 구간 조회 (granularity=hour|day|month, groupBy=none|path|referrer)
+    @GetMapping("/range")
+    public ResponseEntity<List<VisitBucket>> range(
+            HttpServletRequest req,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) String groupBy
+    ) {
+        var admin = users.requireUser(req);
+        return ResponseEntity.ok(rollups.range(from, to, granularity, groupBy, admin));
+    }
+
+    // 관리자: [from, to] 기간 고유 방문자 추정 (일별 HyperLogLog 합집합)
+    @GetMapping("/uniques")
+    public ResponseEntity<UniqueEstimate> uniques(
+            HttpServletRequest req,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        var admin = users.requireUser(req);
+        return ResponseEntity.ok(sketches.estimate(from, to, admin));
     }
 
     @GetMapping("/summary")
@@ -11,8 +11,10 @@ import org.example.myproject.dto.category.CategoryUpdateRequest;
 import org.example.myproject.dto.common.IdOnly;
 import org.example.myproject.service.CategoryService;
 import org.example.myproject.service.UserService;
+import org.example.myproject.util.ConditionalGet;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @SecurityRequirement(name = "JWT")
 @RestController @RequiredArgsConstructor
@@ -54,10 +56,12 @@ public class CategoryController {
     @GetMapping("/summary")
     public ResponseEntity<?> summaryByCount(
             HttpServletRequest req,
+            WebRequest webRequest,
             @RequestParam(required = false, defaultValue = "false") Boolean includePrivate
     ) {
         var me = users.currentUser(req); // 로그인 안 되어도 OK → 공개글 기준으로 집계
-        return ResponseEntity.ok(categories.listWithCounts(me, includePrivate));
+        var summary = categories.listWithCounts(me, includePrivate);
+        return ConditionalGet.respond(webRequest, categories.version(summary, me, includePrivate), () -> summary);
     }
 
 }
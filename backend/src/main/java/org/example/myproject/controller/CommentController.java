@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.myproject.dto.comment.CommentCreateRequest;
+import org.example.myproject.dto.comment.CommentDto;
 import org.example.myproject.dto.common.IdOnly;
 import org.example.myproject.service.CommentService;
 import org.example.myproject.service.UserService;
@@ -20,10 +21,23 @@ public class CommentController {
     private final UserService users;
 
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<?> list(@PathVariable Long postId) {
+    public ResponseEntity<?> list(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Integer replies
+    ) {
+        // cursor 파라미터가 오면(빈 문자열 = 첫 페이지) 최상위 댓글 keyset 페이지, 없으면 전체 트리
+        if (cursor != null) return ResponseEntity.ok(comments.page(postId, cursor, size, replies));
         return ResponseEntity.ok(comments.list(postId));
     }
 
+    // 최상위 댓글 id 기준 스레드 전체
+    @GetMapping("/comments/{id}/thread")
+    public ResponseEntity<CommentDto> thread(@PathVariable Long id) {
+        return ResponseEntity.ok(comments.thread(id));
+    }
+
     @PostMapping("/posts/{postId}/comments")
     public ResponseEntity<IdOnly> create(HttpServletRequest req, @PathVariable Long postId, @Valid @RequestBody CommentCreateRequest body) {
         var u = users.requireUser(req);
@@ -0,0 +1,42 @@
+package org.example.myproject.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.event.LiveEventHub;
+import org.example.myproject.service.NewsBriefingService;
+import org.example.myproject.service.PostService;
+import org.example.myproject.service.UserService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 댓글 작성 / 삭제, 좋아요 수 변경을 SSE 로 전달 (목록 / 상세 재조회 polling 대체).
+ * event: comment-created(CommentDto) / comment-deleted({id}) / like-count({likeCount})
+ * 게시글 채널은 댓글 본문 / 작성자를 실어 보내므로 댓글 목록(GET /api/posts/{id}/comments)과 같이 로그인 필요.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class LiveEventController {
+
+    private final LiveEventHub hub;
+    private final PostService posts;
+    private final NewsBriefingService newsBriefings;
+    private final UserService users;
+
+    @GetMapping(value = "/posts/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter post(@PathVariable Long id, HttpServletRequest req) {
+        posts.requireReadable(id, users.currentUser(req));
+        return hub.subscribe(LiveEventHub.Channel.POST, id);
+    }
+
+    @GetMapping(value = "/news/{newsId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter news(@PathVariable Long newsId) {
+        newsBriefings.requireExists(newsId);
+        return hub.subscribe(LiveEventHub.Channel.NEWS, newsId);
+    }
+}
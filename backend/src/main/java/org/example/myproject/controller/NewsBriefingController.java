@@ -1,16 +1,26 @@
 package org.example.myproject.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.example.myproject.dto.news.NewsBriefingDto;
 import org.example.myproject.service.NewsBriefingService;
+import org.example.myproject.service.PrecompressedHtmlService;
+import org.example.myproject.service.UserService;
+import org.example.myproject.util.ConditionalGet;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,21 +28,44 @@ import org.springframework.web.bind.annotation.RestController;
 public class NewsBriefingController {
 
     private final NewsBriefingService newsBriefings;
+    private final UserService users;
 
     @GetMapping
     public ResponseEntity<List<NewsBriefingDto>> list(
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to,
-            @RequestParam(required = false, name = "q") String query
+            @RequestParam(required = false, name = "q") String query,
+            HttpServletRequest req
     ) {
         LocalDate fromDate = (from == null || from.isBlank()) ? null : LocalDate.parse(from.trim());
         LocalDate toDate = (to == null || to.isBlank()) ? null : LocalDate.parse(to.trim());
-        return ResponseEntity.ok(newsBriefings.list(fromDate, toDate, query));
+        var current = users.currentUser(req);
+        return ResponseEntity.ok(newsBriefings.list(fromDate, toDate, query, current));
     }
 
     @GetMapping("/{date}")
-    public ResponseEntity<NewsBriefingDto> getByDate(@PathVariable String date) {
+    public ResponseEntity<NewsBriefingDto> getByDate(@PathVariable String date, HttpServletRequest req, WebRequest webRequest) {
         LocalDate briefingDate = LocalDate.parse(date);
-        return ResponseEntity.ok(newsBriefings.getByDate(briefingDate));
+        var current = users.currentUser(req);
+        return ConditionalGet.respond(webRequest, newsBriefings.version(briefingDate, current),
+                () -> newsBriefings.getByDate(briefingDate, current));
+    }
+
+    // 본문 html 만 사전 압축 바이트 그대로 전송 (Accept-Encoding 협상)
+    @GetMapping(value = "/{date}/html", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> html(@PathVariable String date, WebRequest webRequest,
+                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        LocalDate briefingDate = LocalDate.parse(date);
+        String encoding = PrecompressedHtmlService.negotiate(acceptEncoding);
+        var version = newsBriefings.version(briefingDate, null).withEncoding(encoding); // 본문만 보내므로 사용자 무관
+        if (ConditionalGet.notModified(webRequest, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        var res = ResponseEntity.ok()
+                .cacheControl(ConditionalGet.cacheControl(version))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8));
+        if (encoding != null) res.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        return res.body(newsBriefings.html(briefingDate, encoding));
     }
 }
@@ -8,11 +8,19 @@ import lombok.RequiredArgsConstructor;
 import org.example.myproject.dto.common.IdOnly;
 import org.example.myproject.dto.common.PageResponse;
 import org.example.myproject.dto.post.*;
+import org.example.myproject.service.PostSearchService;
 import org.example.myproject.service.PostService;
+import org.example.myproject.service.PrecompressedHtmlService;
 import org.example.myproject.service.UserService;
+import org.example.myproject.util.ConditionalGet;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @SecurityRequirement(name = "JWT")
 @RestController @RequiredArgsConstructor
@@ -20,8 +28,11 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService posts;
+    private final PostSearchService postSearch;
     private final UserService users;
 
+    private static final MediaType HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, java.nio.charset.StandardCharsets.UTF_8);
+
     @GetMapping("/posts")
     public ResponseEntity<PageResponse<PostSummary>> list(
             @RequestParam(required=false) Integer page,
@@ -29,10 +40,11 @@ public class PostController {
             @RequestParam(required=false) String title,
             @RequestParam(required=false, name="categoryId") String categoryIds,
             @RequestParam(required=false, defaultValue = "false") Boolean includePrivate,
+            @RequestParam(required=false) String cursor,
             HttpServletRequest req
     ) {
         var current = users.currentUser(req);
-        return ResponseEntity.ok(posts.search(page, size, title, categoryIds, includePrivate, current));
+        return ResponseEntity.ok(posts.search(page, size, title, categoryIds, includePrivate, cursor, current));
     }
 
     @PostMapping("/posts")
@@ -48,10 +60,11 @@ public class PostController {
             @RequestParam(required=false) Integer size,
             @RequestParam(required=false) String title,
             @RequestParam(required=false, defaultValue = "false") Boolean includePrivate,
+            @RequestParam(required=false) String cursor,
             HttpServletRequest req
     ) {
         var current = users.currentUser(req);
-        return ResponseEntity.ok(posts.listByCategory(categoryId, page, size, title, includePrivate, current));
+        return ResponseEntity.ok(posts.listByCategory(categoryId, page, size, title, includePrivate, cursor, current));
     }
 
 //    @PostMapping("/categories/{categoryId}/posts")
@@ -63,10 +76,41 @@ public class PostController {
 //        return ResponseEntity.status(201).body(posts.createInCategory(categoryId, body, admin));
 //    }
 
+    @GetMapping("/posts/search")
+    public ResponseEntity<List<PostSearchHit>> search(
+            @RequestParam String q,
+            @RequestParam(required=false) Integer size,
+            @RequestParam(required=false, defaultValue = "false") Boolean includePrivate,
+            HttpServletRequest req
+    ) {
+        var current = users.currentUser(req);
+        return ResponseEntity.ok(postSearch.search(q, size, includePrivate, current));
+    }
+
     @GetMapping("/posts/{id}")
-    public ResponseEntity<PostDetail> get(@PathVariable Long id, HttpServletRequest req) {
+    public ResponseEntity<PostDetail> get(@PathVariable Long id, HttpServletRequest req, WebRequest webRequest) {
+        var current = users.currentUser(req);
+        var version = posts.version(id, current);
+        posts.recordView(id, current); // 304 응답도 조회로 센다
+        return ConditionalGet.respond(webRequest, version, () -> posts.get(id, current));
+    }
+
+    // 본문 html 만 사전 압축 바이트 그대로 전송 (Accept-Encoding 협상)
+    @GetMapping(value = "/posts/{id}/html", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> html(@PathVariable Long id, HttpServletRequest req, WebRequest webRequest,
+                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         var current = users.currentUser(req);
-        return ResponseEntity.ok(posts.get(id, current));
+        String encoding = PrecompressedHtmlService.negotiate(acceptEncoding);
+        var version = posts.version(id, current).withEncoding(encoding);
+        if (ConditionalGet.notModified(webRequest, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        var res = ResponseEntity.ok()
+                .cacheControl(ConditionalGet.cacheControl(version))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(HTML_UTF8);
+        if (encoding != null) res.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        return res.body(posts.html(id, encoding));
     }
 
     @GetMapping("/posts/pinned")
@@ -0,0 +1,9 @@
+package org.example.myproject.dto.analytics;
+
+import java.time.LocalDate;
+
+/**
+ * 기간 고유 방문자 추정. estimate 는 일별 HyperLogLog 합집합(오차 ≈ 1.6%),
+ * dailySum 은 일별 고유 수의 단순 합(같은 사람이 여러 날 오면 중복 집계).
+ */
+public record UniqueEstimate(LocalDate from, LocalDate to, long estimate, long dailySum, int days) {}
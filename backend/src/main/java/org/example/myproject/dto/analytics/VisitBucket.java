@@ -0,0 +1,11 @@
+package org.example.myproject.dto.analytics;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구간 집계 한 칸. 묶지 않은 차원(path / referrer)은 null.
+ * visitorDays: 칸 안에서 "그날 처음 집계된 방문자" 수의 합. 여러 날 온 방문자는 날마다 세므로 일보다 긴 칸에서는 고유 방문자가 아니다.
+ * uniques: 고유 방문자. 일 단위는 visitorDays 와 같고, 월 단위는 일별 HyperLogLog 합집합 추정치(≈1.6% 오차).
+ *          경로 / 유입별로 묶었거나 시간 단위면 알 수 없어 null.
+ */
+public record VisitBucket(LocalDateTime start, String path, String referrer, long views, long visitorDays, Long uniques) {}
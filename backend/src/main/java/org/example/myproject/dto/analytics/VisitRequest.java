@@ -0,0 +1,12 @@
+package org.example.myproject.dto.analytics;
+
+import jakarta.validation.constraints.Size;
+
+/**
+ * 방문 기록 요청 본문 (선택). path 가 없으면 Referer 헤더의 경로를 쓴다.
+ * referrer 는 프론트의 document.referrer (외부 유입 경로).
+ */
+public record VisitRequest(
+        @Size(max = 2000) String path,
+        @Size(max = 2000) String referrer
+) {}
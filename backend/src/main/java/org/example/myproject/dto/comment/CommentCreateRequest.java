@@ -4,6 +4,6 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 public record CommentCreateRequest(
-        @NotBlank @Size(min=1, max=500) String content
+        @NotBlank @Size(min=1, max=500) String content,
+        Long parentId // 답글이면 부모 댓글 id
 ) {}
-
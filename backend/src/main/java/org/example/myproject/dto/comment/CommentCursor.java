@@ -0,0 +1,30 @@
+package org.example.myproject.dto.comment;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import org.example.myproject.exception.ApiException;
+import org.example.myproject.util.CursorCodec;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 댓글 목록 seek 위치: 정렬 키 (createdAt asc, id asc) 의 마지막 값.
+ */
+public record CommentCursor(LocalDateTime createdAt, Long id) {
+
+    public static CommentCursor of(CommentDto last) {
+        return new CommentCursor(last.createdAt(), last.id());
+    }
+
+    public String encode() {
+        return CursorCodec.encode(createdAt.toString(), String.valueOf(id));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new CommentCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "invalid cursor");
+        }
+    }
+}
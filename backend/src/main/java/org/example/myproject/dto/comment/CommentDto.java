@@ -1,6 +1,7 @@
 package org.example.myproject.dto.comment;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.Builder;
 import org.example.myproject.entity.comment.Comment;
 import org.example.myproject.entity.news.NewsComment;
@@ -12,26 +13,41 @@ public record CommentDto(
         String content,
         Author author,
         LocalDateTime createdAt,
-        boolean deleted
+        boolean deleted,
+        Long parentId,
+        int depth,
+        int replyCount,           // 하위 답글 전체 수 (replies 가 잘려 있어도 실제 수)
+        List<CommentDto> replies
 ) {
     public static CommentDto from(Comment c) {
-        return fromAuthorContent(c.getId(), c.getContent(), c.getAuthor(), c.getCreatedAt(), c.isDeleted());
+        return fromAuthorContent(c.getId(), c.getContent(), c.getAuthor(), c.getCreatedAt(), c.isDeleted(),
+                c.getParentId(), c.getDepth());
     }
 
     public static CommentDto from(NewsComment c) {
-        return fromAuthorContent(c.getId(), c.getContent(), c.getAuthor(), c.getCreatedAt(), c.isDeleted());
+        return fromAuthorContent(c.getId(), c.getContent(), c.getAuthor(), c.getCreatedAt(), c.isDeleted(),
+                c.getParentId(), c.getDepth());
     }
 
-    private static CommentDto fromAuthorContent(Long id, String content, User author, LocalDateTime createdAt, boolean deleted) {
+    private static CommentDto fromAuthorContent(Long id, String content, User author, LocalDateTime createdAt, boolean deleted,
+                                                Long parentId, int depth) {
         return new CommentDto(
                 id,
                 content,
                 Author.from(author),
                 createdAt,
-                deleted
+                deleted,
+                parentId,
+                depth,
+                0,
+                List.of()
         );
     }
 
+    public CommentDto withReplies(List<CommentDto> replies, int replyCount) {
+        return new CommentDto(id, content, author, createdAt, deleted, parentId, depth, replyCount, replies);
+    }
+
     @Builder
     public record Author(Long id, String displayName, String profileImageUrl) {
         public static Author from(User u) {
@@ -39,4 +55,3 @@ public record CommentDto(
         }
     }
 }
-
@@ -0,0 +1,50 @@
+package org.example.myproject.dto.comment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * path 순(깊이 우선, 부모가 항상 자식보다 앞)으로 정렬된 평면 목록을 트리로 조립한다.
+ * 뒤에서부터 한 번 훑으면 자식이 부모보다 먼저 완성되므로 O(n), 재귀 / 추가 쿼리 없음.
+ * 부모가 목록에 없는 노드(잘린 페이지 등)는 최상위로 올린다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CommentTree {
+
+    public static List<CommentDto> build(List<CommentDto> inPathOrder) {
+        Set<Long> ids = new HashSet<>(inPathOrder.size() * 2);
+        for (CommentDto c : inPathOrder) ids.add(c.id());
+
+        Map<Long, List<CommentDto>> children = new HashMap<>();
+        Map<Long, Integer> descendants = new HashMap<>();
+        List<CommentDto> roots = new ArrayList<>();
+        for (int i = inPathOrder.size() - 1; i >= 0; i--) {
+            CommentDto c = inPathOrder.get(i);
+            List<CommentDto> kids = children.remove(c.id());
+            int count = descendants.getOrDefault(c.id(), 0);
+            descendants.remove(c.id());
+            if (kids == null) {
+                kids = List.of();
+            } else {
+                Collections.reverse(kids); // 역순으로 모았으므로 작성 순으로 되돌림
+            }
+            CommentDto built = c.withReplies(kids, count);
+            Long parent = c.parentId();
+            if (parent != null && ids.contains(parent)) {
+                children.computeIfAbsent(parent, k -> new ArrayList<>()).add(built);
+                descendants.merge(parent, count + 1, Integer::sum);
+            } else {
+                roots.add(built);
+            }
+        }
+        Collections.reverse(roots);
+        return roots;
+    }
+}
@@ -1,7 +1,19 @@
 package org.example.myproject.dto.common;
 
 import java.util.List;
+
+/**
+ * 오프셋 페이지 응답. 커서(keyset) 모드에서는 nextCursor 로 다음 페이지를 요청하며,
+ * 이때 COUNT 쿼리를 생략하므로 totalElements / totalPages 는 -1 이다.
+ */
 public record PageResponse<T>(
-        List<T> content, int page, int size, long totalElements, int totalPages
-) {}
+        List<T> content, int page, int size, long totalElements, int totalPages, String nextCursor
+) {
+    public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages) {
+        this(content, page, size, totalElements, totalPages, null);
+    }
 
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, String nextCursor) {
+        return new PageResponse<>(content, 0, size, -1, -1, nextCursor);
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.myproject.dto.common;
+
+/**
+ * 조건부 GET 검증자. lastModified 는 epoch millis (없으면 -1), privateScope 면 공유 캐시 저장 금지.
+ */
+public record ResourceVersion(String etag, long lastModified, boolean privateScope) {
+
+    /** 같은 자원의 인코딩별 표현은 서로 다른 strong ETag 를 가져야 함 */
+    public ResourceVersion withEncoding(String encoding) {
+        if (encoding == null || etag == null) return this;
+        return new ResourceVersion(etag.substring(0, etag.length() - 1) + "-" + encoding + "\"", lastModified, privateScope);
+    }
+}
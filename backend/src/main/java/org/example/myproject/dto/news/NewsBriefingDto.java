@@ -8,5 +8,6 @@ public record NewsBriefingDto(
         LocalDate briefingDate,
         String contentHtml,
         LocalDateTime createdAt,
-        int likeCount
+        int likeCount,
+        boolean likedByMe
 ) {}
@@ -0,0 +1,30 @@
+package org.example.myproject.dto.post;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import org.example.myproject.exception.ApiException;
+import org.example.myproject.util.CursorCodec;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 게시글 목록 seek 위치: 정렬 키 (isPinned desc, createdAt desc, id desc) 의 마지막 값.
+ */
+public record PostCursor(boolean pinned, LocalDateTime createdAt, Long id) {
+
+    public static PostCursor of(PostSummary last) {
+        return new PostCursor(last.isPinned(), last.createdAt(), last.id());
+    }
+
+    public String encode() {
+        return CursorCodec.encode(pinned ? "1" : "0", createdAt.toString(), String.valueOf(id));
+    }
+
+    public static PostCursor decode(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        try {
+            return new PostCursor("1".equals(parts[0]), LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "invalid cursor");
+        }
+    }
+}
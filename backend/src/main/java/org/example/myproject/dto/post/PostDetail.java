@@ -3,6 +3,7 @@ package org.example.myproject.dto.post;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import org.example.myproject.entity.Post.Post;
+import org.example.myproject.entity.Post.PostStats;
 
 @Builder
 public record PostDetail(
@@ -15,9 +16,12 @@ public record PostDetail(
         LocalDateTime createdAt,
         String contentMd,
         String contentHtml,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        boolean likedByMe,
+        int commentCount,
+        long viewCount
 ) {
-    public static PostDetail from(Post p, int likeCount) {
+    public static PostDetail from(Post p, int likeCount, PostStats stats) {
         return new PostDetail(
                 p.getId(),
                 p.getTitle(),
@@ -28,7 +32,21 @@ public record PostDetail(
                 p.getCreatedAt(),
                 p.getContentMd(),
                 p.getContentHtml(),
-                p.getUpdatedAt()
+                p.getUpdatedAt(),
+                false,
+                stats == null ? 0 : (int) stats.getCommentCount(),
+                stats == null ? 0 : stats.getViewCount()
         );
     }
+
+    // 캐시에는 사용자 무관 값(false)으로 두고 응답 직전에 사용자별로 채움
+    public PostDetail withLikedByMe(boolean likedByMe) {
+        return new PostDetail(id, title, category, likeCount, isPinned, isPrivate, createdAt,
+                contentMd, contentHtml, updatedAt, likedByMe, commentCount, viewCount);
+    }
+
+    public PostDetail withViewCount(long viewCount) {
+        return new PostDetail(id, title, category, likeCount, isPinned, isPrivate, createdAt,
+                contentMd, contentHtml, updatedAt, likedByMe, commentCount, viewCount);
+    }
 }
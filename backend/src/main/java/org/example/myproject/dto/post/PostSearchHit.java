@@ -0,0 +1,11 @@
+package org.example.myproject.dto.post;
+
+/**
+ * 본문 검색 결과. titleHtml / snippetHtml 은 HTML 이스케이프 후 일치 구간만 &lt;mark&gt; 로 감싼 값.
+ */
+public record PostSearchHit(
+        PostSummary post,
+        double score,
+        String titleHtml,
+        String snippetHtml
+) {}
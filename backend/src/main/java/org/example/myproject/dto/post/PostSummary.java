@@ -12,8 +12,18 @@ public record PostSummary(
         int likeCount,
         boolean isPinned,
         boolean isPrivate,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        boolean likedByMe,
+        int commentCount,
+        long viewCount
 ) {
+    // JPQL 생성자 프로젝션용: content_md / content_html 을 읽지 않고 목록 컬럼만 조회
+    public PostSummary(Long id, String title, Long categoryId, String categoryName, String categorySlug,
+                       boolean isPinned, boolean isPrivate, LocalDateTime createdAt, long likeCount) {
+        this(id, title, new Category(categoryId, categoryName, categorySlug),
+                (int) likeCount, isPinned, isPrivate, createdAt, false, 0, 0);
+    }
+
     public static PostSummary from(Post p, int likeCount) {
         return new PostSummary(
                 p.getId(),
@@ -22,10 +32,25 @@ public record PostSummary(
                 likeCount,
                 p.isPinned(),
                 p.isPrivate(),
-                p.getCreatedAt()
+                p.getCreatedAt(),
+                false,
+                0,
+                0
         );
     }
 
+    public PostSummary withLikeCount(int likeCount) {
+        return new PostSummary(id, title, category, likeCount, isPinned, isPrivate, createdAt, likedByMe, commentCount, viewCount);
+    }
+
+    public PostSummary withLikedByMe(boolean likedByMe) {
+        return new PostSummary(id, title, category, likeCount, isPinned, isPrivate, createdAt, likedByMe, commentCount, viewCount);
+    }
+
+    public PostSummary withStats(int commentCount, long viewCount) {
+        return new PostSummary(id, title, category, likeCount, isPinned, isPrivate, createdAt, likedByMe, commentCount, viewCount);
+    }
+
     @Builder
     public record Category(Long id, String name, String slug) {
         public static Category from(org.example.myproject.entity.category.Category c) {
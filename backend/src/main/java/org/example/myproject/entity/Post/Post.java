@@ -7,6 +7,7 @@ import org.example.myproject.entity.category.Category;
 import org.example.myproject.entity.comment.Comment;
 import org.example.myproject.entity.like.PostLike;
 import org.example.myproject.entity.user.User;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,7 +23,10 @@ import java.util.List;
         indexes = {
                 @Index(name = "idx_post_createdAt_desc", columnList = "created_at DESC"),
                 @Index(name = "idx_post_title", columnList = "title"),
-                @Index(name = "idx_post_isPrivate", columnList = "is_private")
+                @Index(name = "idx_post_isPrivate", columnList = "is_private"),
+                // 목록 조회(공개 여부 / 카테고리 필터 + 고정글 우선, 최신순) 및 keyset seek 용 복합 인덱스
+                @Index(name = "idx_post_private_pinned_created", columnList = "is_private, is_pinned, created_at, id"),
+                @Index(name = "idx_post_category_pinned_created", columnList = "category_id, is_pinned, created_at, id")
         }
 )
 public class Post extends BaseTimeEntity {
@@ -46,12 +50,21 @@ public class Post extends BaseTimeEntity {
     @Column(name = "content_html", columnDefinition = "LONGTEXT", nullable = false)
     private String contentHtml;
 
+    // 렌더링 구성 + content_md 의 SHA-256 (MarkdownRenderer.sha), 같으면 재렌더링 생략
+    @Column(name = "content_md_sha", length = 64)
+    private String contentMdSha;
+
     @Column(name = "is_private", nullable = false)
     private boolean isPrivate;
 
     @Column(name = "is_pinned", nullable = false)
     private boolean isPinned;
 
+    // 좋아요 수 비정규화 컬럼 (LikeService.toggle 에서 함께 갱신)
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "author_id", nullable = false,
             foreignKey = @ForeignKey(name = "fk_post_author"))
@@ -68,9 +81,10 @@ public class Post extends BaseTimeEntity {
     @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<PostLike> likes = new ArrayList<>();
 
-    public void updateContent(String md, String html) {
+    public void updateContent(String md, String html, String sha) {
         this.contentMd = md;
         this.contentHtml = html;
+        this.contentMdSha = sha;
     }
 
     public void moveCategory(Category category) {
@@ -0,0 +1,41 @@
+package org.example.myproject.entity.Post;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 게시글별 참여 지표 (댓글 수 / 조회수). 집계 쿼리 없이 목록에 바로 쓰도록 증분 갱신한다.
+ * - 댓글: CommentService 작성 / 삭제 시 ±1
+ * - 조회수: PostViewBuffer 가 모아서 주기적으로 반영
+ * - PostStatsService.reconcile 이 누락 행 생성 / 댓글 수 재계산 / 고아 행 삭제로 어긋남을 보정
+ * 좋아요 수는 이미 posts.like_count 로 비정규화되어 있어 여기 중복하지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "postId")
+@Entity
+@Table(name = "post_stats")
+public class PostStats {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;
+
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+}
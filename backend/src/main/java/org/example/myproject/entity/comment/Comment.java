@@ -5,6 +5,8 @@ import lombok.*;
 import org.example.myproject.entity.BaseTimeEntity;
 import org.example.myproject.entity.Post.Post;
 import org.example.myproject.entity.user.User;
+import org.example.myproject.util.CommentPath;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Builder
@@ -15,7 +17,12 @@ import org.example.myproject.entity.user.User;
 @Table(
         name = "comments",
         indexes = {
-                @Index(name = "idx_comment_post_createdAt", columnList = "post_id, created_at")
+                @Index(name = "idx_comment_post_createdAt", columnList = "post_id, created_at"),
+                @Index(name = "idx_comment_post_parent_createdAt", columnList = "post_id, parent_id, created_at"),
+                @Index(name = "idx_comment_post_path", columnList = "post_id, path"),
+                @Index(name = "idx_comment_root_path", columnList = "root_id, path"),
+                @Index(name = "idx_comment_parent", columnList = "parent_id"),
+                @Index(name = "idx_comment_deleted_at", columnList = "deleted_at")
         }
 )
 public class Comment extends BaseTimeEntity {
@@ -43,6 +50,37 @@ public class Comment extends BaseTimeEntity {
     @Column(name = "deleted_at")
     private java.time.LocalDateTime deletedAt;
 
+    // ===== 답글 스레드 (materialized path, CommentPath 참고) =====
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 스레드 최상위 댓글 id (최상위 댓글은 자기 자신)
+    @Column(name = "root_id")
+    private Long rootId;
+
+    @ColumnDefault("0")
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    @Column(name = "path", length = CommentPath.SEGMENT * (CommentPath.MAX_DEPTH + 1))
+    private String path;
+
+    /** id 가 채번된 뒤(save 이후) 호출: parent 가 null 이면 새 스레드의 최상위 댓글 */
+    public void placeUnder(Comment parent) {
+        if (parent == null) {
+            this.parentId = null;
+            this.rootId = this.id;
+            this.depth = 0;
+            this.path = CommentPath.segment(this.id);
+        } else {
+            this.parentId = parent.getId();
+            this.rootId = parent.getRootId();
+            this.depth = parent.getDepth() + 1;
+            this.path = CommentPath.child(parent.getPath(), this.id);
+        }
+    }
+
     public void softDelete() {
         this.deleted = true;
         this.deletedAt = java.time.LocalDateTime.now();
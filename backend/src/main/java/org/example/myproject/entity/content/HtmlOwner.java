@@ -0,0 +1,5 @@
+package org.example.myproject.entity.content;
+
+public enum HtmlOwner {
+    POST, NEWS
+}
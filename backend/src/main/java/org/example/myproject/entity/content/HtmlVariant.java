@@ -0,0 +1,65 @@
+package org.example.myproject.entity.content;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.myproject.entity.BaseTimeEntity;
+
+/**
+ * 게시글 / 브리핑 content_html 의 사전 압축본.
+ * 본문 엔티티에 두면 findById 마다 BLOB 이 함께 읽히므로 별도 테이블로 분리한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@Entity
+@Table(
+        name = "html_variants",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_html_variant_owner", columnNames = {"owner_type", "owner_id"})
+        }
+)
+public class HtmlVariant extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", length = 20, nullable = false)
+    private HtmlOwner ownerType;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    // 원본 UTF-8 바이트 길이
+    @Column(name = "raw_length", nullable = false)
+    private int rawLength;
+
+    @Lob
+    @Column(name = "gzip", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] gzip;
+
+    @Lob
+    @Column(name = "deflate", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] deflate;
+
+    public void update(int rawLength, byte[] gzip, byte[] deflate) {
+        this.rawLength = rawLength;
+        this.gzip = gzip;
+        this.deflate = deflate;
+    }
+}
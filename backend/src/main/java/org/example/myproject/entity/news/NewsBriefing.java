@@ -15,6 +15,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.myproject.entity.BaseTimeEntity;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Builder
@@ -42,6 +43,11 @@ public class NewsBriefing extends BaseTimeEntity {
     @Column(name = "content_html", columnDefinition = "TEXT", nullable = false)
     private String contentHtml;
 
+    // 좋아요 수 비정규화 컬럼 (NewsLikeService.toggle / LikeCountBuffer 에서 갱신)
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
     public void updateContent(String contentHtml) {
         this.contentHtml = contentHtml;
     }
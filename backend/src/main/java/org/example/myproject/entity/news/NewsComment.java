@@ -20,6 +20,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.myproject.entity.BaseTimeEntity;
 import org.example.myproject.entity.user.User;
+import org.example.myproject.util.CommentPath;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Builder
@@ -30,7 +32,12 @@ import org.example.myproject.entity.user.User;
 @Table(
         name = "news_comments",
         indexes = {
-                @Index(name = "idx_news_comment_briefing_createdAt", columnList = "briefing_id, created_at")
+                @Index(name = "idx_news_comment_briefing_createdAt", columnList = "briefing_id, created_at"),
+                @Index(name = "idx_news_comment_briefing_parent_createdAt", columnList = "briefing_id, parent_id, created_at"),
+                @Index(name = "idx_news_comment_briefing_path", columnList = "briefing_id, path"),
+                @Index(name = "idx_news_comment_root_path", columnList = "root_id, path"),
+                @Index(name = "idx_news_comment_parent", columnList = "parent_id"),
+                @Index(name = "idx_news_comment_deleted_at", columnList = "deleted_at")
         }
 )
 public class NewsComment extends BaseTimeEntity {
@@ -58,6 +65,37 @@ public class NewsComment extends BaseTimeEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // ===== 답글 스레드 (materialized path, CommentPath 참고) =====
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 스레드 최상위 댓글 id (최상위 댓글은 자기 자신)
+    @Column(name = "root_id")
+    private Long rootId;
+
+    @ColumnDefault("0")
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    @Column(name = "path", length = CommentPath.SEGMENT * (CommentPath.MAX_DEPTH + 1))
+    private String path;
+
+    /** id 가 채번된 뒤(save 이후) 호출: parent 가 null 이면 새 스레드의 최상위 댓글 */
+    public void placeUnder(NewsComment parent) {
+        if (parent == null) {
+            this.parentId = null;
+            this.rootId = this.id;
+            this.depth = 0;
+            this.path = CommentPath.segment(this.id);
+        } else {
+            this.parentId = parent.getId();
+            this.rootId = parent.getRootId();
+            this.depth = parent.getDepth() + 1;
+            this.path = CommentPath.child(parent.getPath(), this.id);
+        }
+    }
+
     public void softDelete() {
         this.deleted = true;
         this.deletedAt = LocalDateTime.now();
@@ -3,6 +3,7 @@ package org.example.myproject.entity.visit;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import lombok.*;
+import org.example.myproject.util.HyperLogLog;
 
 @Getter
 @Builder
@@ -27,6 +28,10 @@ public class VisitDailyCount {
     @Column(name = "count", nullable = false)
     private Long count;
 
+    // 그날 방문자 지문의 HyperLogLog 레지스터 (HyperLogLog.M 바이트), 기간 고유 방문자 추정용
+    @Column(name = "hll_sketch", length = HyperLogLog.M)
+    private byte[] hllSketch;
+
     public void increase(long delta) {
         this.count = (this.count == null ? 0 : this.count) + delta;
     }
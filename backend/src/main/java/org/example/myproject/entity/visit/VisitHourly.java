@@ -0,0 +1,43 @@
+package org.example.myproject.entity.visit;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 시간 단위 방문 집계 (VisitRollupBuffer 가 메모리에 모았다가 upsert).
+ * views = 페이지 조회 수, uniques = 그 시간에 처음 집계된 방문자 수(해당 방문자의 첫 페이지에만 기록).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@Entity
+@Table(
+        name = "visit_hourly",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_visit_hourly_bucket", columnNames = {"bucket_hour", "path", "referrer_host"})
+        }
+)
+public class VisitHourly {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_hour", nullable = false)
+    private LocalDateTime bucketHour;
+
+    @Column(name = "path", length = 200, nullable = false)
+    private String path;
+
+    // 외부 유입 호스트, 직접 / 내부 이동은 빈 문자열
+    @Column(name = "referrer_host", length = 100, nullable = false)
+    private String referrerHost;
+
+    @Column(name = "views", nullable = false)
+    private long views;
+
+    @Column(name = "uniques", nullable = false)
+    private long uniques;
+}
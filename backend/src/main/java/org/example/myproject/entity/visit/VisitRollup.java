@@ -0,0 +1,49 @@
+package org.example.myproject.entity.visit;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.*;
+
+/**
+ * visit_hourly 를 일 / 월 단위로 다시 묶은 집계 (VisitRollupService.rollup 이 매시 재계산).
+ * bucket_start 는 일 단위면 그 날짜, 월 단위면 그 달 1일.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@Entity
+@Table(
+        name = "visit_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_visit_rollup_bucket",
+                        columnNames = {"granularity", "bucket_start", "path", "referrer_host"})
+        }
+)
+public class VisitRollup {
+
+    public enum Granularity { DAY, MONTH }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 8, nullable = false)
+    private Granularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(name = "path", length = 200, nullable = false)
+    private String path;
+
+    @Column(name = "referrer_host", length = 100, nullable = false)
+    private String referrerHost;
+
+    @Column(name = "views", nullable = false)
+    private long views;
+
+    @Column(name = "uniques", nullable = false)
+    private long uniques;
+}
@@ -0,0 +1,15 @@
+package org.example.myproject.event;
+
+/**
+ * SSE 로 내보내는 이벤트 한 건. name 은 SSE event 필드(comment-created / comment-deleted / like-count).
+ */
+public record LiveEvent(String name, Object data) {
+
+    public static final String COMMENT_CREATED = "comment-created";
+    public static final String COMMENT_DELETED = "comment-deleted";
+    public static final String LIKE_COUNT = "like-count";
+
+    public record CommentDeleted(Long id) {}
+
+    public record LikeCount(int likeCount) {}
+}
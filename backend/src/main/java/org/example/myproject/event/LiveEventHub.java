@@ -0,0 +1,263 @@
+package org.example.myproject.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.exception.ApiException;
+import org.example.myproject.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 게시글 / 브리핑 단위 SSE fan-out. 메모리에만 존재한다 (단일 인스턴스 기준).
+ * - 발행은 AfterCommit 으로 커밋 후에만, 발행 스레드는 구독자별 큐에 넣기만 하고 전송은 전용 스레드가 한다.
+ * - 구독자 큐는 buffer-size 로 제한되고 넘치면 가장 오래된 이벤트를 버린다 (느린 클라이언트가 발행 측을 막지 않음).
+ * - 주기적으로 heartbeat 주석을 보내 프록시 유휴 타임아웃과 끊긴 연결을 정리한다.
+ * - 읽지 않는 클라이언트에 대한 send 는 blocking write 라 전송 스레드를 잡고 있을 수 있다.
+ *   send-timeout-ms 를 넘긴 구독자는 watchdog 이 닫고 그 스레드를 interrupt 하며, 풀 크기를 하나 늘려
+ *   나머지 구독자 전송이 멈추지 않게 한다 (막힌 send 가 끝나면 다시 줄임).
+ * 지표: sse.events.dropped, sse.sends.timedout, sse.subscribers
+ */
+@Slf4j
+@Component
+public class LiveEventHub {
+
+    public enum Channel { POST, NEWS }
+
+    private record Topic(Channel channel, Long id) {}
+
+    private final Map<Topic, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor sender;
+    private final Counter dropped;
+    private final Counter timedOut;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+
+    public LiveEventHub(@Value("${app.events.buffer-size:64}") int bufferSize,
+                        @Value("${app.events.max-subscribers:1000}") int maxSubscribers,
+                        @Value("${app.events.timeout-ms:1800000}") long timeoutMs,
+                        @Value("${app.events.sender-threads:2}") int senderThreads,
+                        @Value("${app.events.send-timeout-ms:10000}") long sendTimeoutMs,
+                        MeterRegistry registry) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, sendTimeoutMs));
+        AtomicInteger seq = new AtomicInteger();
+        int threads = Math.max(1, senderThreads);
+        this.sender = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "sse-sender-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.dropped = Counter.builder("sse.events.dropped").register(registry);
+        this.timedOut = Counter.builder("sse.sends.timedout").register(registry);
+        Gauge.builder("sse.subscribers", subscriberCount, AtomicInteger::get).register(registry);
+    }
+
+    public SseEmitter subscribe(Channel channel, Long id) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "too many subscribers");
+        }
+        Topic topic = new Topic(channel, id);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber sub = new Subscriber(topic, emitter);
+        topics.compute(topic, (k, subs) -> {
+            Set<Subscriber> set = subs == null ? ConcurrentHashMap.newKeySet() : subs;
+            set.add(sub);
+            return set;
+        });
+        emitter.onCompletion(sub::close);
+        emitter.onTimeout(sub::close);
+        emitter.onError(e -> sub.close());
+        sub.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /** 현재 트랜잭션 커밋 후 구독자들에게 전달 (트랜잭션 밖이면 즉시) */
+    public void publish(Channel channel, Long id, LiveEvent event) {
+        AfterCommit.run(() -> {
+            Set<Subscriber> subs = topics.get(new Topic(channel, id));
+            if (subs == null || subs.isEmpty()) return;
+            for (Subscriber sub : subs) {
+                sub.offer(SseEmitter.event().name(event.name()).data(event.data()));
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        topics.values().forEach(subs -> subs.forEach(Subscriber::ping));
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.send-check-ms:2000}")
+    public void watchdog() {
+        long now = System.nanoTime();
+        topics.values().forEach(subs -> subs.forEach(sub -> sub.checkStuck(now)));
+    }
+
+    // 막힌 send 가 잡고 있는 스레드만큼 풀을 늘렸다 줄임 (코어 ≤ 최대 순서 유지)
+    private synchronized void growSender() {
+        sender.setMaximumPoolSize(sender.getMaximumPoolSize() + 1);
+        sender.setCorePoolSize(sender.getCorePoolSize() + 1);
+    }
+
+    private synchronized void shrinkSender() {
+        sender.setCorePoolSize(sender.getCorePoolSize() - 1);
+        sender.setMaximumPoolSize(sender.getMaximumPoolSize() - 1);
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        topics.values().forEach(subs -> subs.forEach(sub -> sub.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private final class Subscriber {
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final ArrayDeque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean stuck = new AtomicBoolean();
+        // send 중인 스레드 / 시작 시각 (0 = 전송 중 아님), sendGuard 로 watchdog 의 interrupt 와 직렬화
+        private final Object sendGuard = new Object();
+        private Thread sendingThread;
+        private long sendStarted;
+
+        private Subscriber(Topic topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) return;
+            synchronized (queue) {
+                if (queue.size() >= bufferSize) { // drop-oldest
+                    queue.pollFirst();
+                    dropped.increment();
+                }
+                queue.addLast(event);
+            }
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) { // 종료 중
+                    draining.set(false);
+                }
+            }
+        }
+
+        // 밀린 이벤트가 있으면 그게 곧 heartbeat 역할이므로 큐가 비었을 때만 넣음
+        void ping() {
+            synchronized (queue) {
+                if (!queue.isEmpty()) return;
+            }
+            offer(SseEmitter.event().comment("ping"));
+        }
+
+        // 구독자당 한 번에 한 스레드만 전송 (SseEmitter 는 동시 send 에 안전하지 않음)
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    SseEmitter.SseEventBuilder next;
+                    synchronized (queue) {
+                        next = queue.pollFirst();
+                    }
+                    if (next == null) break;
+                    send(next);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("[sse] subscriber gone topic={} msg={}", topic, e.getMessage());
+                close();
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+                if (stuck.get()) {
+                    Thread.interrupted(); // watchdog 이 남긴 interrupt 를 다음 작업으로 넘기지 않음
+                    shrinkSender();
+                }
+            }
+            if (stuck.get()) { // 막혔다가 결국 써진 경우: 이미 닫힌 구독자
+                emitter.completeWithError(new IOException("send timed out"));
+                return;
+            }
+            // 플래그를 내린 사이에 들어온 이벤트가 있으면 다시 예약
+            boolean more;
+            synchronized (queue) {
+                more = !queue.isEmpty();
+            }
+            if (more && !closed.get() && draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (sendGuard) {
+                sendingThread = Thread.currentThread();
+                sendStarted = System.nanoTime() | 1L;
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (sendGuard) {
+                    sendingThread = null;
+                    sendStarted = 0;
+                }
+            }
+        }
+
+        // emitter 메서드는 send 와 같은 잠금을 쓰므로 여기서는 부르지 않고 interrupt 만 한다
+        void checkStuck(long now) {
+            synchronized (sendGuard) {
+                if (sendStarted == 0 || now - sendStarted < sendTimeoutNanos) return;
+                if (!stuck.compareAndSet(false, true)) return;
+                growSender();
+                timedOut.increment();
+                log.warn("[sse] send timed out topic={} → closing subscriber", topic);
+                sendingThread.interrupt();
+            }
+            close();
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            subscriberCount.decrementAndGet();
+            topics.computeIfPresent(topic, (k, subs) -> {
+                subs.remove(this);
+                return subs.isEmpty() ? null : subs;
+            });
+            synchronized (queue) {
+                queue.clear();
+            }
+        }
+    }
+}
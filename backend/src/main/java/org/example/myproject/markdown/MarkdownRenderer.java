@@ -0,0 +1,112 @@
+package org.example.myproject.markdown;
+
+import com.vladsch.flexmark.ext.anchorlink.AnchorLinkExtension;
+import com.vladsch.flexmark.ext.autolink.AutolinkExtension;
+import com.vladsch.flexmark.ext.gfm.strikethrough.StrikethroughExtension;
+import com.vladsch.flexmark.ext.tables.TablesExtension;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import com.vladsch.flexmark.util.misc.Extension;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 마크다운 → HTML 렌더러.
+ * - 확장은 app.markdown.extensions 로 선택 (tables, fenced-code, autolink, anchors, strikethrough)
+ * - sha(md) 는 확장 구성까지 포함한 내용 해시라, 저장된 해시와 같으면 다시 렌더링할 필요가 없다
+ * - 렌더링 결과는 해시 기준 LRU 로 최근 N 건 보관 (같은 본문 재저장 / 되돌리기 시 재사용)
+ */
+@Slf4j
+@Component
+public class MarkdownRenderer {
+
+    public record Rendered(String html, String sha) {}
+
+    private final Parser parser;
+    private final HtmlRenderer renderer;
+    private final String fingerprint;
+    private final int cacheSize;
+    private final Map<String, String> cache;
+    private final Timer renderTimer;
+
+    public MarkdownRenderer(@Value("${app.markdown.extensions:tables,fenced-code,autolink,anchors,strikethrough}") List<String> extensions,
+                            @Value("${app.markdown.cache-size:128}") int cacheSize,
+                            MeterRegistry registry) {
+        TreeSet<String> enabled = new TreeSet<>();
+        for (String e : extensions) {
+            if (e != null && !e.isBlank()) enabled.add(e.trim().toLowerCase(Locale.ROOT));
+        }
+        MutableDataSet options = new MutableDataSet();
+        List<Extension> exts = new ArrayList<>();
+        if (enabled.contains("tables")) exts.add(TablesExtension.create());
+        if (enabled.contains("autolink")) exts.add(AutolinkExtension.create());
+        if (enabled.contains("strikethrough")) exts.add(StrikethroughExtension.create());
+        if (enabled.contains("anchors")) {
+            exts.add(AnchorLinkExtension.create());
+            options.set(HtmlRenderer.GENERATE_HEADER_ID, true);
+        }
+        options.set(Parser.FENCED_CODE_BLOCK_PARSER, enabled.contains("fenced-code"));
+        options.set(Parser.EXTENSIONS, exts);
+
+        this.parser = Parser.builder(options).build();
+        this.renderer = HtmlRenderer.builder(options).build();
+        this.fingerprint = String.join(",", enabled);
+        this.cacheSize = cacheSize;
+        this.cache = new LinkedHashMap<>(32, 0.75f, true);
+        this.renderTimer = Timer.builder("markdown.render").register(registry);
+        log.info("[markdown] extensions={} cacheSize={}", fingerprint, cacheSize);
+    }
+
+    /** 렌더링 구성 + 본문 기준 SHA-256 (hex) */
+    public String sha(String md) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update((md == null ? "" : md).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Rendered render(String md) {
+        String sha = sha(md);
+        String html;
+        synchronized (cache) {
+            html = cache.get(sha);
+        }
+        if (html == null) {
+            html = renderTimer.record(() -> toHtml(md));
+            synchronized (cache) {
+                cache.put(sha, html);
+                if (cache.size() > cacheSize) {
+                    var it = cache.entrySet().iterator();
+                    it.next();
+                    it.remove();
+                }
+            }
+        }
+        return new Rendered(html, sha);
+    }
+
+    /** 캐시를 거치지 않는 렌더링 (벤치마크 / 재생성용) */
+    public String toHtml(String md) {
+        if (md == null || md.isBlank()) return "";
+        return renderer.render(parser.parse(md));
+    }
+}
@@ -1,13 +1,66 @@
 package org.example.myproject.repository.comment;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.example.myproject.entity.Post.Post;
 import org.example.myproject.entity.comment.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findByPost(Post post, Pageable pageable);
     long countByPostAndDeletedFalse(Post post);
+
+    // 작성자는 fetch join (댓글마다 users 조회하는 N+1 방지)
+    // 글 전체 스레드: idx_comment_post_path range 한 번, path 순 = 트리 깊이 우선 순서
+    @Query("select c from Comment c join fetch c.author where c.post.id = :postId order by c.path asc")
+    List<Comment> findWithAuthorByPostIdOrderByPath(@Param("postId") Long postId);
+
+    // 최상위 댓글 페이지 (idx_comment_post_parent_createdAt)
+    @Query("select c from Comment c join fetch c.author where c.post.id = :postId and c.parentId is null order by c.createdAt asc, c.id asc")
+    List<Comment> findRootsWithAuthorByPostId(@Param("postId") Long postId, Limit limit);
+
+    // keyset: (createdAt, id) 가 커서보다 뒤인 최상위 댓글
+    @Query("""
+        select c from Comment c join fetch c.author
+        where c.post.id = :postId and c.parentId is null
+          and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))
+        order by c.createdAt asc, c.id asc
+    """)
+    List<Comment> findRootsWithAuthorByPostIdAfter(@Param("postId") Long postId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Limit limit);
+
+    // 한 스레드의 앞쪽 답글 limit 건: (root_id, path) range 를 limit 만큼만 읽음
+    @Query("select c from Comment c join fetch c.author where c.rootId = :rootId and c.parentId is not null order by c.path asc")
+    List<Comment> findRepliesWithAuthorByRootId(@Param("rootId") Long rootId, Limit limit);
+
+    // 스레드별 전체 답글 수 (행 / 작성자 없이 인덱스만으로 group by)
+    @Query("""
+        select c.rootId as rootId, count(c) as replies
+        from Comment c
+        where c.rootId in :rootIds and c.parentId is not null
+        group by c.rootId
+    """)
+    List<ReplyCount> countRepliesByRootIds(@Param("rootIds") Collection<Long> rootIds);
+
+    // 한 스레드 전체 (최상위 포함)
+    @Query("select c from Comment c join fetch c.author where c.rootId = :rootId order by c.path asc")
+    List<Comment> findThreadWithAuthor(@Param("rootId") Long rootId);
+
+    // 경로가 아직 없는 (스레드 도입 이전) 댓글: CommentPathInitializer 가 최상위 댓글로 채움
+    @Query("select c.id from Comment c where c.path is null")
+    List<Long> findIdsWithoutPath();
+
+    interface ReplyCount {
+        Long getRootId();
+        long getReplies();
+    }
 }
@@ -0,0 +1,24 @@
+package org.example.myproject.repository.content;
+
+import java.util.Optional;
+import org.example.myproject.entity.content.HtmlOwner;
+import org.example.myproject.entity.content.HtmlVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface HtmlVariantRepository extends JpaRepository<HtmlVariant, Long> {
+    Optional<HtmlVariant> findByOwnerTypeAndOwnerId(HtmlOwner ownerType, Long ownerId);
+
+    // 응답 시에는 필요한 인코딩 컬럼 하나만 읽음
+    @Query("select v.gzip from HtmlVariant v where v.ownerType = :type and v.ownerId = :id")
+    Optional<byte[]> findGzip(@Param("type") HtmlOwner type, @Param("id") Long id);
+
+    @Query("select v.deflate from HtmlVariant v where v.ownerType = :type and v.ownerId = :id")
+    Optional<byte[]> findDeflate(@Param("type") HtmlOwner type, @Param("id") Long id);
+
+    @Modifying
+    @Query("delete from HtmlVariant v where v.ownerType = :type and v.ownerId = :id")
+    int deleteByOwner(@Param("type") HtmlOwner type, @Param("id") Long id);
+}
@@ -1,6 +1,9 @@
 package org.example.myproject.repository.like;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.example.myproject.entity.Post.Post;
@@ -8,10 +11,42 @@ import org.example.myproject.entity.like.PostLike;
 import org.example.myproject.entity.like.PostLikeId;
 import org.example.myproject.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
     long countByPost(Post post);
+    @Query("select count(l) from PostLike l where l.id.postId = :postId")
+    long countByPostId(@Param("postId") Long postId);
     boolean existsByUserAndPost(User user, Post post);
     Optional<PostLike> findByUserAndPost(User user, Post post);
-}
 
+    // 복합 키 기준 멱등 insert / delete (영향 행 수로 토글 방향 결정)
+    @Modifying
+    @Query(value = "insert ignore into post_likes (user_id, post_id, created_at) values (:userId, :postId, :createdAt)",
+            nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("delete from PostLike l where l.id.userId = :userId and l.id.postId = :postId")
+    int deleteByIds(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 주어진 게시글 중 사용자가 좋아요한 id (목록 / 상세 likedByMe 를 한 번에)
+    @Query("select l.id.postId from PostLike l where l.id.userId = :userId and l.id.postId in :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // 목록 페이지에 있는 게시글들의 좋아요 수를 group by 한 번으로 집계
+    @Query("""
+        select l.id.postId as postId, count(l) as likeCount
+        from PostLike l
+        where l.id.postId in :postIds
+        group by l.id.postId
+    """)
+    List<PostLikeCount> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    interface PostLikeCount {
+        Long getPostId();
+        long getLikeCount();
+    }
+}
@@ -5,9 +5,29 @@ import java.util.List;
 import java.util.Optional;
 import org.example.myproject.entity.news.NewsBriefing;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NewsBriefingRepository extends JpaRepository<NewsBriefing, Long> {
     Optional<NewsBriefing> findByBriefingDate(LocalDate briefingDate);
+
+    // 조건부 GET 검증자용 (content_html 제외)
+    @Query("select b.id as id, b.updatedAt as updatedAt, b.likeCount as likeCount from NewsBriefing b where b.briefingDate = :date")
+    Optional<BriefingVersion> findVersionByBriefingDate(@Param("date") LocalDate briefingDate);
+
+    // 좋아요 토글 직렬화용 행 잠금 + 현재 카운터 (없으면 empty)
+    @Query(value = "select like_count from news_briefings where id = :id for update", nativeQuery = true)
+    Optional<Long> lockLikeCount(@Param("id") Long id);
+
+    @Query("select b.likeCount from NewsBriefing b where b.id = :id")
+    Optional<Long> findLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update NewsBriefing b set b.likeCount = b.likeCount + :delta where b.id = :id")
+    int addLikeCount(@Param("id") Long id, @Param("delta") long delta);
+
+
     List<NewsBriefing> findAllByOrderByBriefingDateDesc();
     List<NewsBriefing> findByBriefingDateBetweenOrderByBriefingDateDesc(LocalDate from, LocalDate to);
     List<NewsBriefing> findByBriefingDateBetweenAndContentHtmlContainingIgnoreCaseOrderByBriefingDateDesc(
@@ -22,4 +42,10 @@ public interface NewsBriefingRepository extends JpaRepository<NewsBriefing, Long
             LocalDate to, String q
     );
     List<NewsBriefing> findByContentHtmlContainingIgnoreCaseOrderByBriefingDateDesc(String q);
+
+    interface BriefingVersion {
+        Long getId();
+        java.time.LocalDateTime getUpdatedAt();
+        long getLikeCount();
+    }
 }
@@ -1,12 +1,60 @@
 package org.example.myproject.repository.news;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.example.myproject.entity.news.NewsBriefing;
 import org.example.myproject.entity.news.NewsComment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NewsCommentRepository extends JpaRepository<NewsComment, Long> {
     Page<NewsComment> findByBriefing(NewsBriefing briefing, Pageable pageable);
     long countByBriefingAndDeletedFalse(NewsBriefing briefing);
+
+    // CommentRepository 와 같은 구성 (작성자 fetch join, path 순 스레드 조회)
+    @Query("select c from NewsComment c join fetch c.author where c.briefing.id = :briefingId order by c.path asc")
+    List<NewsComment> findWithAuthorByBriefingIdOrderByPath(@Param("briefingId") Long briefingId);
+
+    @Query("select c from NewsComment c join fetch c.author where c.briefing.id = :briefingId and c.parentId is null order by c.createdAt asc, c.id asc")
+    List<NewsComment> findRootsWithAuthorByBriefingId(@Param("briefingId") Long briefingId, Limit limit);
+
+    @Query("""
+        select c from NewsComment c join fetch c.author
+        where c.briefing.id = :briefingId and c.parentId is null
+          and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))
+        order by c.createdAt asc, c.id asc
+    """)
+    List<NewsComment> findRootsWithAuthorByBriefingIdAfter(@Param("briefingId") Long briefingId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Limit limit);
+
+    // 한 스레드의 앞쪽 답글 limit 건: (root_id, path) range 를 limit 만큼만 읽음
+    @Query("select c from NewsComment c join fetch c.author where c.rootId = :rootId and c.parentId is not null order by c.path asc")
+    List<NewsComment> findRepliesWithAuthorByRootId(@Param("rootId") Long rootId, Limit limit);
+
+    // 스레드별 전체 답글 수 (행 / 작성자 없이 인덱스만으로 group by)
+    @Query("""
+        select c.rootId as rootId, count(c) as replies
+        from NewsComment c
+        where c.rootId in :rootIds and c.parentId is not null
+        group by c.rootId
+    """)
+    List<ReplyCount> countRepliesByRootIds(@Param("rootIds") Collection<Long> rootIds);
+
+    @Query("select c from NewsComment c join fetch c.author where c.rootId = :rootId order by c.path asc")
+    List<NewsComment> findThreadWithAuthor(@Param("rootId") Long rootId);
+
+    @Query("select c.id from NewsComment c where c.path is null")
+    List<Long> findIdsWithoutPath();
+
+    interface ReplyCount {
+        Long getRootId();
+        long getReplies();
+    }
 }
@@ -1,14 +1,36 @@
 package org.example.myproject.repository.news;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.example.myproject.entity.news.NewsBriefing;
 import org.example.myproject.entity.news.NewsLike;
 import org.example.myproject.entity.news.NewsLikeId;
 import org.example.myproject.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NewsLikeRepository extends JpaRepository<NewsLike, NewsLikeId> {
     long countByBriefing(NewsBriefing briefing);
+    @Query("select count(l) from NewsLike l where l.id.briefingId = :briefingId")
+    long countByBriefingId(@Param("briefingId") Long briefingId);
+    // 복합 키 기준 멱등 insert / delete (영향 행 수로 토글 방향 결정)
+    @Modifying
+    @Query(value = "insert ignore into news_likes (user_id, briefing_id, created_at) values (:userId, :briefingId, :createdAt)",
+            nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("briefingId") Long briefingId, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("delete from NewsLike l where l.id.userId = :userId and l.id.briefingId = :briefingId")
+    int deleteByIds(@Param("userId") Long userId, @Param("briefingId") Long briefingId);
+
+    // 주어진 브리핑 중 사용자가 좋아요한 id
+    @Query("select l.id.briefingId from NewsLike l where l.id.userId = :userId and l.id.briefingId in :briefingIds")
+    List<Long> findLikedBriefingIds(@Param("userId") Long userId, @Param("briefingIds") Collection<Long> briefingIds);
+
     boolean existsByUserAndBriefing(User user, NewsBriefing briefing);
     Optional<NewsLike> findByUserAndBriefing(User user, NewsBriefing briefing);
 }
@@ -11,15 +11,54 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostSummaryQueryRepository {
     Page<Post> findByCategory(Category category, Pageable pageable);
     Page<Post> findByAuthor(User author, Pageable pageable);
     Page<Post> findByTitleContainingIgnoreCase(String title, Pageable pageable);
     Page<Post> findByIsPrivateFalse(Pageable pageable);
     java.util.Optional<Post> findFirstByIsPinnedTrueOrderByCreatedAtDesc();
 
+    // 카테고리 삭제 시 함께 지워지는 글 (검색 색인 정리용)
+    @Query("select p.id from Post p where p.category.id = :categoryId")
+    java.util.List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query("select p from Post p join fetch p.category where p.id = :id")
+    java.util.Optional<Post> findWithCategoryById(@Param("id") Long id);
+
+    // 조건부 GET 검증자용: 본문 LONGTEXT 없이 버전을 결정하는 컬럼만 조회
+    @Query("""
+        select p.id as id, p.isPrivate as isPrivate, p.isPinned as isPinned, p.updatedAt as updatedAt,
+               p.likeCount as likeCount, c.id as categoryId, c.name as categoryName, c.slug as categorySlug
+        from Post p join p.category c
+        where p.id = :id
+    """)
+    java.util.Optional<PostVersion> findVersionById(@Param("id") Long id);
+
     @Modifying
     @Query("update Post p set p.isPinned = false where p.isPinned = true and p.id <> :id")
     int unpinAllExcept(@Param("id") Long id);
+
+    // 좋아요 토글 직렬화용 행 잠금 + 현재 카운터 (없으면 empty)
+    @Query(value = "select like_count from posts where id = :id for update", nativeQuery = true)
+    java.util.Optional<Long> lockLikeCount(@Param("id") Long id);
+
+    @Query("select p.likeCount from Post p where p.id = :id")
+    java.util.Optional<Long> findLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount + :delta where p.id = :id")
+    int addLikeCount(@Param("id") Long id, @Param("delta") long delta);
+
+
+    interface PostVersion {
+        Long getId();
+        boolean getIsPrivate();
+        boolean getIsPinned();
+        java.time.LocalDateTime getUpdatedAt();
+        long getLikeCount();
+        Long getCategoryId();
+        String getCategoryName();
+        String getCategorySlug();
+    }
 }
 
@@ -0,0 +1,67 @@
+package org.example.myproject.repository.post;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.example.myproject.dto.post.PostCursor;
+import org.example.myproject.entity.Post.Post;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 게시글 목록 검색 조건 조각.
+ * 조건이 비어 있으면 null predicate 를 돌려 and() 조합 시 자연스럽게 빠지도록 한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostSpecifications {
+
+    public static Specification<Post> visible(boolean includePrivate) {
+        return (root, query, cb) -> includePrivate ? null : cb.isFalse(root.get("isPrivate"));
+    }
+
+    public static Specification<Post> pinned() {
+        return (root, query, cb) -> cb.isTrue(root.get("isPinned"));
+    }
+
+    public static Specification<Post> inCategories(Collection<Long> categoryIds) {
+        return (root, query, cb) -> (categoryIds == null || categoryIds.isEmpty())
+                ? null
+                : root.get("category").get("id").in(categoryIds);
+    }
+
+    public static Specification<Post> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Post> titleContains(String title) {
+        return (root, query, cb) -> {
+            if (title == null || title.isBlank()) return null;
+            String pattern = "%" + escapeLike(title.trim().toLowerCase(Locale.ROOT)) + "%";
+            return cb.like(cb.lower(root.get("title")), pattern, '\\');
+        };
+    }
+
+    /**
+     * keyset 조건: (isPinned desc, createdAt desc, id desc) 순서에서 커서 다음 행들.
+     */
+    public static Specification<Post> after(PostCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return null;
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<Long> id = root.get("id");
+            Predicate older = cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id())));
+            Predicate sameGroup = cb.and(cb.equal(root.get("isPinned"), cursor.pinned()), older);
+            // 고정글 구간 다음에는 비고정글 전체가 이어진다
+            return cursor.pinned() ? cb.or(cb.isFalse(root.get("isPinned")), sameGroup) : sameGroup;
+        };
+    }
+
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.myproject.repository.post;
+
+import org.example.myproject.entity.Post.PostStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
+
+    @Modifying
+    @Query(value = "insert into post_stats (post_id, comment_count, view_count) values (:postId, 0, 0)", nativeQuery = true)
+    int insertEmpty(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("update PostStats s set s.commentCount = s.commentCount + :delta where s.postId = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // ===== 보정 (PostStatsService.reconcile) =====
+
+    @Modifying
+    @Query(value = """
+        insert into post_stats (post_id, comment_count, view_count)
+        select p.id, 0, 0 from posts p
+        where not exists (select 1 from post_stats s where s.post_id = p.id)
+    """, nativeQuery = true)
+    int insertMissing();
+
+    @Modifying
+    @Query(value = """
+        update post_stats set comment_count =
+            (select count(*) from comments c where c.post_id = post_stats.post_id and c.deleted = false)
+    """, nativeQuery = true)
+    int syncCommentCounts();
+
+    @Modifying
+    @Query(value = "delete from post_stats where not exists (select 1 from posts p where p.id = post_stats.post_id)",
+            nativeQuery = true)
+    int deleteOrphans();
+}
@@ -0,0 +1,21 @@
+package org.example.myproject.repository.post;
+
+import java.util.List;
+import org.example.myproject.dto.post.PostSummary;
+import org.example.myproject.entity.Post.Post;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface PostSummaryQueryRepository {
+    /**
+     * 조건(spec)에 맞는 게시글을 고정글 우선, 최신순으로 PostSummary 프로젝션 조회.
+     * 필터 / 정렬 / 페이징이 모두 한 SQL 에서 처리되고 본문 LONGTEXT 컬럼은 읽지 않는다.
+     */
+    Page<PostSummary> findSummaries(Specification<Post> spec, Pageable pageable);
+
+    /**
+     * 같은 정렬로 앞에서부터 limit 건만 조회 (keyset 모드: 커서 조건은 spec 에 포함, COUNT 생략).
+     */
+    List<PostSummary> findSummarySlice(Specification<Post> spec, int limit);
+}
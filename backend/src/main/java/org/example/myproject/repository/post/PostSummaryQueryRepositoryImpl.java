@@ -0,0 +1,67 @@
+package org.example.myproject.repository.post;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.dto.post.PostSummary;
+import org.example.myproject.entity.Post.Post;
+import org.example.myproject.entity.category.Category;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+@RequiredArgsConstructor
+public class PostSummaryQueryRepositoryImpl implements PostSummaryQueryRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public Page<PostSummary> findSummaries(Specification<Post> spec, Pageable pageable) {
+        TypedQuery<PostSummary> query = summaryQuery(spec);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<PostSummary> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<PostSummary> findSummarySlice(Specification<Post> spec, int limit) {
+        return summaryQuery(spec).setMaxResults(limit).getResultList();
+    }
+
+    private TypedQuery<PostSummary> summaryQuery(Specification<Post> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<PostSummary> cq = cb.createQuery(PostSummary.class);
+        Root<Post> p = cq.from(Post.class);
+        Join<Post, Category> c = p.join("category");
+        cq.select(cb.construct(PostSummary.class,
+                p.get("id"), p.get("title"),
+                c.get("id"), c.get("name"), c.get("slug"),
+                p.get("isPinned"), p.get("isPrivate"), p.get("createdAt"), p.get("likeCount")));
+
+        Predicate where = spec == null ? null : spec.toPredicate(p, cq, cb);
+        if (where != null) cq.where(where);
+        // idx_post_*_pinned_created 인덱스 순서와 동일 (id 는 동일 시각 tie-break 겸 seek 키)
+        cq.orderBy(cb.desc(p.get("isPinned")), cb.desc(p.get("createdAt")), cb.desc(p.get("id")));
+        return em.createQuery(cq);
+    }
+
+    private long count(Specification<Post> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Post> p = cq.from(Post.class);
+        cq.select(cb.count(p));
+        Predicate where = spec == null ? null : spec.toPredicate(p, cq, cb);
+        if (where != null) cq.where(where);
+        return em.createQuery(cq).getSingleResult();
+    }
+}
@@ -5,8 +5,13 @@ import java.util.Optional;
 
 import org.example.myproject.entity.visit.VisitDailyCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface VisitDailyCountRepository extends JpaRepository<VisitDailyCount, Long> {
     Optional<VisitDailyCount> findByDate(LocalDate date);
+
+    // 누적 방문자 수 (VisitTotalCounter 초기값)
+    @Query("select coalesce(sum(v.count), 0) from VisitDailyCount v")
+    long sumCounts();
 }
 
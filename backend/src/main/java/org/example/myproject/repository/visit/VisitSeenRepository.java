@@ -2,12 +2,19 @@ package org.example.myproject.repository.visit;
 
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.example.myproject.entity.visit.VisitSeen;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface VisitSeenRepository extends JpaRepository<VisitSeen, Long> {
     Optional<VisitSeen> findByVisitDateAndFpHash(LocalDate date, String fpHash);
     long countByVisitDate(LocalDate date);
+
+    // VisitorDedupe 재구성용 (fp_hash 컬럼만)
+    @Query("select v.fpHash from VisitSeen v where v.visitDate = :date")
+    List<String> findFpHashesByVisitDate(@Param("date") LocalDate date);
 }
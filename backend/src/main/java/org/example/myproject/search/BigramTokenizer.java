@@ -0,0 +1,63 @@
+package org.example.myproject.search;
+
+import java.lang.Character.UnicodeScript;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한글/영문 혼합 텍스트용 토크나이저.
+ * - 한글(및 한자/가나) 연속 구간: 2글자 bigram ("스프링부트" → 스프, 프링, 링부, 부트). 한 글자 구간은 그대로.
+ * - 영문/숫자 연속 구간: 소문자 단어 하나.
+ * 형태소 분석 없이 조사가 붙은 어절("스프링은")도 bigram 이 겹치므로 검색된다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BigramTokenizer {
+
+    public static List<String> tokenize(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) return out;
+        String s = text.toLowerCase(Locale.ROOT);
+        int n = s.length();
+        int i = 0;
+        while (i < n) {
+            int cp = s.codePointAt(i);
+            if (!Character.isLetterOrDigit(cp)) {
+                i += Character.charCount(cp);
+                continue;
+            }
+            int start = i;
+            boolean cjk = isCjk(cp);
+            while (i < n) {
+                int c = s.codePointAt(i);
+                if (!Character.isLetterOrDigit(c) || isCjk(c) != cjk) break;
+                i += Character.charCount(c);
+            }
+            String run = s.substring(start, i);
+            if (cjk) bigrams(run, out);
+            else out.add(run);
+        }
+        return out;
+    }
+
+    private static void bigrams(String run, List<String> out) {
+        int[] cps = run.codePoints().toArray();
+        if (cps.length == 1) {
+            out.add(run);
+            return;
+        }
+        for (int j = 0; j + 1 < cps.length; j++) {
+            out.add(new String(cps, j, 2));
+        }
+    }
+
+    private static boolean isCjk(int cp) {
+        UnicodeScript script = UnicodeScript.of(cp);
+        return script == UnicodeScript.HANGUL
+                || script == UnicodeScript.HAN
+                || script == UnicodeScript.HIRAGANA
+                || script == UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.myproject.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.example.myproject.entity.Post.Post;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 게시글 제목 + 본문(markdown) 역색인. 메모리에만 존재하며 기동 시 SearchIndexInitializer 가 재구성하고
+ * PostService.create / update / delete 에서 건 단위로 갱신한다.
+ * 쿼리는 모든 토큰을 포함한 문서만(AND) 대상으로 하고, 제목 일치에 가중치를 둔 tf-idf 로 정렬한다.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final double TITLE_BOOST = 2.0;
+    private static final double TF_SATURATION = 1.2;
+    private static final int SNIPPET_RADIUS = 60;
+    private static final Pattern MD_SYMBOLS = Pattern.compile("[#*>`_~|\\[\\]()!-]+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Tf>> postings = new HashMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+
+    public record Hit(Long postId, double score, String titleHtml, String snippetHtml) {}
+
+    private record Tf(int title, int body) {}
+
+    private record Doc(String title, String text, boolean isPrivate, Map<String, Tf> terms) {}
+
+    public void index(Post p) {
+        String text = plainText(p.getContentMd());
+        Map<String, int[]> counts = new HashMap<>();
+        for (String t : BigramTokenizer.tokenize(p.getTitle())) counts.computeIfAbsent(t, k -> new int[2])[0]++;
+        for (String t : BigramTokenizer.tokenize(text)) counts.computeIfAbsent(t, k -> new int[2])[1]++;
+        Map<String, Tf> terms = new HashMap<>(counts.size() * 2);
+        counts.forEach((t, c) -> terms.put(t, new Tf(c[0], c[1])));
+        Doc doc = new Doc(p.getTitle(), text, p.isPrivate(), terms);
+
+        lock.writeLock().lock();
+        try {
+            unlink(p.getId());
+            docs.put(p.getId(), doc);
+            terms.forEach((t, tf) -> postings.computeIfAbsent(t, k -> new HashMap<>()).put(p.getId(), tf));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            unlink(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docs.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, boolean includePrivate, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(BigramTokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) return List.of();
+        Pattern highlight = highlightPattern(query);
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Tf>> lists = new ArrayList<>(terms.size());
+            for (String t : terms) {
+                Map<Long, Tf> list = postings.get(t);
+                if (list == null) return List.of(); // AND 검색: 하나라도 없으면 결과 없음
+                lists.add(list);
+            }
+            // 가장 짧은 posting 부터 교집합
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < lists.size(); i++) order.add(i);
+            order.sort(Comparator.comparingInt(i -> lists.get(i).size()));
+
+            int n = docs.size();
+            double[] idf = new double[terms.size()];
+            for (int i = 0; i < terms.size(); i++) idf[i] = Math.log(1.0 + (double) n / lists.get(i).size());
+
+            List<Hit> hits = new ArrayList<>();
+            for (Long id : lists.get(order.get(0)).keySet()) {
+                Doc doc = docs.get(id);
+                if (doc == null || (doc.isPrivate() && !includePrivate)) continue;
+                double score = 0;
+                boolean all = true;
+                for (int i = 0; i < lists.size(); i++) {
+                    Tf tf = lists.get(i).get(id);
+                    if (tf == null) { all = false; break; }
+                    score += idf[i] * (TITLE_BOOST * saturate(tf.title()) + saturate(tf.body()));
+                }
+                if (!all) continue;
+                hits.add(new Hit(id, score, null, null));
+            }
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::postId, Comparator.reverseOrder()));
+            return hits.stream().limit(limit).map(h -> {
+                Doc doc = docs.get(h.postId());
+                return new Hit(h.postId(), h.score(), mark(doc.title(), highlight), snippet(doc.text(), highlight));
+            }).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(Long postId) {
+        Doc old = docs.remove(postId);
+        if (old == null) return;
+        for (String t : old.terms().keySet()) {
+            Map<Long, Tf> list = postings.get(t);
+            if (list == null) continue;
+            list.remove(postId);
+            if (list.isEmpty()) postings.remove(t);
+        }
+    }
+
+    private static double saturate(int tf) {
+        return tf == 0 ? 0 : tf / (tf + TF_SATURATION);
+    }
+
+    private static String plainText(String md) {
+        if (md == null || md.isBlank()) return "";
+        String s = MD_SYMBOLS.matcher(md).replaceAll(" ");
+        return SPACES.matcher(s).replaceAll(" ").trim();
+    }
+
+    // 하이라이트는 토큰이 아니라 사용자가 입력한 단어 단위로 표시
+    private static Pattern highlightPattern(String query) {
+        String alt = Arrays.stream(SPACES.split(query.trim()))
+                .filter(w -> !w.isBlank())
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        return alt.isEmpty() ? null : Pattern.compile(alt, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    private static String snippet(String text, Pattern highlight) {
+        if (text.isEmpty()) return "";
+        int at = 0;
+        if (highlight != null) {
+            Matcher m = highlight.matcher(text);
+            if (m.find()) at = m.start();
+        }
+        int from = Math.max(0, at - SNIPPET_RADIUS);
+        int to = Math.min(text.length(), at + SNIPPET_RADIUS * 2);
+        String body = mark(text.substring(from, to), highlight);
+        return (from > 0 ? "…" : "") + body + (to < text.length() ? "…" : "");
+    }
+
+    private static String mark(String text, Pattern highlight) {
+        if (text == null) return "";
+        if (highlight == null) return HtmlUtils.htmlEscape(text);
+        StringBuilder sb = new StringBuilder(text.length() + 32);
+        Matcher m = highlight.matcher(text);
+        int last = 0;
+        while (m.find()) {
+            sb.append(HtmlUtils.htmlEscape(text.substring(last, m.start())))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(m.group()))
+                    .append("</mark>");
+            last = m.end();
+        }
+        sb.append(HtmlUtils.htmlEscape(text.substring(last)));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.myproject.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쓰기 / 비용 큰 엔드포인트 요청 제한 설정 (app.rate-limit).
+ * 정책마다 capacity 만큼 연속 요청을 허용하고, 이후에는 분당 per-minute 건 속도로 채워진다.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // 버킷 맵 분할 수 (키 해시로 분산)
+    private int stripes = 16;
+    // 분할당 최대 키 수 (정리 후에도 자리가 없으면 새 키는 정책별 공용 버킷 하나로 합쳐 제한)
+    private int maxKeysPerStripe = 10000;
+    private List<Policy> policies = new ArrayList<>();
+
+    public enum KeyType {
+        IP,          // 원격 주소 (server.tomcat.remoteip 설정 기준, 신뢰하는 프록시가 붙인 값만 사용)
+        USER_OR_IP   // 로그인 사용자는 user id, 아니면 원격 주소
+    }
+
+    @Setter
+    @Getter
+    public static class Policy {
+        private String name;
+        private String method = "POST";
+        private List<String> paths = new ArrayList<>(); // Ant 패턴
+        private KeyType key = KeyType.USER_OR_IP;
+        private int capacity = 10;
+        private int perMinute = 60;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.myproject.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잠금 없는 token bucket. 버킷 하나가 AtomicLong 하나(GCRA 의 "다음 토큰이 생기는 이론상 시각")라
+ * 획득은 CAS 한 번으로 끝나고, 토큰 수 / 마지막 보충 시각을 따로 들고 있을 필요가 없다.
+ * - 버킷 맵은 키 해시로 stripes 개로 나눠 맵 하나에 쓰기가 몰리지 않게 한다.
+ * - 완전히 다시 찬 버킷(tat <= now)은 새 버킷과 같으므로 주기적으로 지워 메모리를 돌려받는다.
+ * - 분할이 가득 차 새 키를 둘 자리가 없으면 호출 측이 준 overflowKey 의 공용 버킷으로 합쳐 제한한다
+ *   (키를 계속 바꿔 보내는 클라이언트가 제한 없이 통과하지 못하도록 fail closed).
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+    public record Decision(boolean allowed, long retryAfterNanos, boolean shared) {
+        public long retryAfterSeconds() {
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        }
+    }
+
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    // 정책별 공용 버킷 (정책 수만큼만 생김)
+    private final ConcurrentHashMap<String, AtomicLong> overflow = new ConcurrentHashMap<>();
+    private final int maxKeysPerStripe;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(RateLimitProperties props, MeterRegistry registry) {
+        int n = Math.max(1, props.getStripes());
+        this.stripes = new ConcurrentHashMap[n];
+        for (int i = 0; i < n; i++) stripes[i] = new ConcurrentHashMap<>();
+        this.maxKeysPerStripe = props.getMaxKeysPerStripe();
+        Gauge.builder("ratelimit.buckets", this, TokenBucketRateLimiter::size).register(registry);
+    }
+
+    /**
+     * @param overflowKey   버킷 자리가 없을 때 대신 쓸 공용 버킷 키 (보통 정책 이름)
+     * @param intervalNanos 토큰 하나가 채워지는 간격
+     * @param capacity      연속 허용 건수
+     */
+    public Decision tryAcquire(String key, String overflowKey, long intervalNanos, int capacity) {
+        return tryAcquire(key, overflowKey, intervalNanos, capacity, System.nanoTime());
+    }
+
+    Decision tryAcquire(String key, String overflowKey, long intervalNanos, int capacity, long now) {
+        var stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+        AtomicLong tat = stripe.get(key);
+        if (tat == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                sweep(stripe, now);
+                if (stripe.size() >= maxKeysPerStripe) {
+                    AtomicLong shared = overflow.computeIfAbsent(overflowKey, k -> new AtomicLong(now));
+                    return acquire(shared, now, intervalNanos, capacity, true);
+                }
+            }
+            tat = stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        return acquire(tat, now, intervalNanos, capacity, false);
+    }
+
+    private static Decision acquire(AtomicLong tat, long now, long intervalNanos, int capacity, boolean shared) {
+        long limit = intervalNanos * capacity;
+        while (true) {
+            long cur = tat.get();
+            long next = Math.max(cur, now) + intervalNanos;
+            long wait = next - now - limit;
+            if (wait > 0) return new Decision(false, wait, shared);
+            if (tat.compareAndSet(cur, next)) return new Decision(true, 0, shared);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        for (var stripe : stripes) sweep(stripe, now);
+        sweep(overflow, now);
+    }
+
+    public int size() {
+        int n = 0;
+        for (var stripe : stripes) n += stripe.size();
+        return n;
+    }
+
+    private static void sweep(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+        stripe.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+}
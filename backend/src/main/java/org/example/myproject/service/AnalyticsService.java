@@ -1,69 +1,71 @@
 package org.example.myproject.service;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.example.myproject.cache.VisitEventBuffer;
+import org.example.myproject.cache.VisitRollupBuffer;
+import org.example.myproject.cache.VisitTotalCounter;
+import org.example.myproject.cache.VisitorDedupe;
+import org.example.myproject.dto.analytics.VisitRequest;
 import org.example.myproject.dto.analytics.VisitSummary;
 import org.example.myproject.entity.user.UserRole;
-import org.example.myproject.entity.visit.VisitDailyCount;
-import org.example.myproject.entity.visit.VisitSeen;
 import org.example.myproject.exception.ApiException;
 import org.example.myproject.repository.visit.VisitDailyCountRepository;
-import org.example.myproject.repository.visit.VisitSeenRepository;
+import org.example.myproject.util.Sha256;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service @RequiredArgsConstructor
 public class AnalyticsService {
 
-    private final VisitSeenRepository seenRepo;
+    // visit_seen.fp_hash 컬럼 길이. 넘는 헤더 값은 해시로 줄여 저장 실패를 막는다
+    private static final int MAX_FP_LENGTH = 128;
+
     private final VisitDailyCountRepository dailyRepo;
+    private final VisitorDedupe dedupe;
+    private final VisitTotalCounter totalCounter;
+    private final VisitEventBuffer visitBuffer;
+    private final VisitRollupBuffer rollupBuffer;
 
-    @Transactional
-    public VisitSummary visitOnce(HttpServletRequest req) {
+    /**
+     * 재방문(오늘 이미 본 지문)은 VisitorDedupe 에서 걸러져 아무것도 기록하지 않는다.
+     * 새 방문자는 VisitEventBuffer 에 넣고 바로 응답 (visit_seen / 일 카운트 반영은 백그라운드 batch).
+     * 트랜잭션 / DB 접근 없이 메모리 값으로만 응답한다.
+     * 경로 / 유입 호스트별 시간 집계(VisitRollupBuffer)는 재방문 포함 모든 요청을 센다.
+     */
+    public VisitSummary visitOnce(HttpServletRequest req, VisitRequest body) {
         LocalDate today = LocalDate.now();
         String ip = req.getRemoteAddr();
         String ua = req.getHeader("User-Agent");
         String fp = req.getHeader("X-Visitor-FP"); // 프론트가 주는 지문 해시(없어도 ok)
-        if (fp==null || fp.isBlank()) fp = "FP-" + sha(ip + "|" + ua);
+        if (fp==null || fp.isBlank()) fp = "FP-" + Sha256.hex(ip + "|" + ua);
+        else if (fp.length() > MAX_FP_LENGTH) fp = "FPH-" + Sha256.hex(fp);
 
-        // 중복 체크 후 새로운 방문자일 때만 저장 및 카운트 증가
-        boolean isNewVisitor = seenRepo.findByVisitDateAndFpHash(today, fp).isEmpty();
-        if (isNewVisitor) {
-            seenRepo.save(VisitSeen.builder()
-                    .visitDate(today).fpHash(fp)
-                    .ipHash(sha(ip)).uaHash(sha(ua))
-                    .build());
-            
-            var daily = dailyRepo.findByDate(today)
-                    .orElseGet(() -> dailyRepo.save(VisitDailyCount.builder().date(today).count(0L).build()));
-            daily.increase(1);
+        long key = VisitorDedupe.key(fp);
+        boolean counted = false;
+        if (dedupe.markIfAbsent(today, key)) {
+            var event = new VisitEventBuffer.VisitEvent(today, fp, Sha256.hex(ip), Sha256.hex(ua), LocalDateTime.now(), 0);
+            if (visitBuffer.offer(event)) {
+                dedupe.increment(today);
+                totalCounter.increment();
+                counted = true;
+            } else {
+                dedupe.unmark(today, key); // 큐 포화: 이번 방문은 버리고 다음 요청에서 다시 시도
+            }
         }
-
-        // 현재 카운트 반환 (증가 여부와 관계없이)
-        long dailyCount = dailyRepo.findByDate(today).map(v -> v.getCount() == null ? 0 : v.getCount()).orElse(0L);
-        long total = dailyRepo.findAll().stream().mapToLong(v-> v.getCount()==null?0:v.getCount()).sum();
-        return new VisitSummary(dailyCount, total);
+        String path = VisitRollupBuffer.normalizePath(body != null && body.path() != null ? body.path() : req.getHeader("Referer"));
+        String referrer = VisitRollupBuffer.referrerHost(body == null ? null : body.referrer(), req.getServerName());
+        rollupBuffer.record(LocalDateTime.now(), path, referrer, counted);
+        return new VisitSummary(dedupe.dailyCount(today), totalCounter.get(dailyRepo::sumCounts));
     }
 
     public VisitSummary summary(jakarta.servlet.http.HttpServletRequest req) {
         LocalDate today = LocalDate.now();
-        long daily = dailyRepo.findByDate(today).map(v -> v.getCount() == null ? 0 : v.getCount()).orElse(0L);
-        long total = dailyRepo.findAll().stream().mapToLong(v-> v.getCount()==null?0:v.getCount()).sum();
+        long daily = dedupe.dailyCount(today);
+        long total = totalCounter.get(dailyRepo::sumCounts); // 메모리 값만 읽음 (DB 접근 없음)
         return new VisitSummary(daily, total);
     }
-
-    private static String sha(String s) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] h = md.digest((s==null?"":s).getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder();
-            for (byte b : h) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) { return ""; }
-    }
 }
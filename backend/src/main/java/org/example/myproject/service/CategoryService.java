@@ -4,16 +4,23 @@ package org.example.myproject.service;
 import java.text.Normalizer;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.example.myproject.cache.PinnedPostSlot;
+import org.example.myproject.cache.PostDetailCache;
 import org.example.myproject.dto.category.CategoryCreateRequest;
 import org.example.myproject.dto.category.CategoryDto;
 import org.example.myproject.dto.category.CategoryUpdateRequest;
 import org.example.myproject.dto.category.CategoryWithCountDto;
 import org.example.myproject.dto.common.IdOnly;
+import org.example.myproject.dto.common.ResourceVersion;
 import org.example.myproject.entity.category.Category;
 import org.example.myproject.entity.user.User;
 import org.example.myproject.entity.user.UserRole;
 import org.example.myproject.exception.ApiException;
 import org.example.myproject.repository.category.CategoryRepository;
+import org.example.myproject.repository.post.PostRepository;
+import org.example.myproject.search.PostSearchIndex;
+import org.example.myproject.util.AfterCommit;
+import org.example.myproject.util.ConditionalGet;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +28,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Service @RequiredArgsConstructor
 public class CategoryService {
     private final CategoryRepository repo;
+    private final PostDetailCache postDetailCache;
+    private final PinnedPostSlot pinnedSlot;
+    private final PostRepository posts;
+    private final PostSearchIndex searchIndex;
 
     public List<CategoryDto> list() {
         return repo.findAllByOrderBySortOrderAscCreatedAtAsc()
@@ -54,6 +65,8 @@ public class CategoryService {
             f.set(c, req.name());
         } catch (Exception ignored) {
         }
+        postDetailCache.clear(); // 상세 응답에 카테고리 이름이 들어 있음
+        pinnedSlot.invalidate();
         return CategoryDto.from(c);
     }
 
@@ -61,7 +74,11 @@ public class CategoryService {
     public void delete(Long id, User admin) {
         requireAdmin(admin);
         if (!repo.existsById(id)) throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
+        List<Long> postIds = posts.findIdsByCategoryId(id);
         repo.deleteById(id);
+        AfterCommit.run(() -> postIds.forEach(searchIndex::remove)); // 남은 색인이 검색 limit 자리를 차지하지 않도록
+        postDetailCache.clear(); // 하위 게시글도 함께 삭제됨
+        pinnedSlot.invalidate();
     }
 
     @Transactional
@@ -100,4 +117,15 @@ public class CategoryService {
                 && Boolean.TRUE.equals(includePrivate);
         return repo.findAllWithPostCount(allowPrivate);
     }
+
+    /**
+     * 집계 결과 자체가 작으므로 내용 해시를 ETag 로 사용.
+     * 글 삭제는 어떤 updatedAt 도 올리지 않아 Last-Modified 로는 변경을 알 수 없으므로 보내지 않는다.
+     */
+    public ResourceVersion version(List<CategoryWithCountDto> summary, User current, Boolean includePrivate) {
+        boolean allowPrivate = current != null
+                && current.getRole() == UserRole.ADMIN
+                && Boolean.TRUE.equals(includePrivate);
+        return new ResourceVersion(ConditionalGet.etag("categories", allowPrivate, summary), -1, allowPrivate);
+    }
 }
@@ -0,0 +1,107 @@
+package org.example.myproject.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 소프트 삭제 후 retention-days 가 지난 댓글을 실제로 지운다 (comments / news_comments).
+ * - 배치마다 id 를 batch-size 건 고른 뒤 짧은 트랜잭션 하나로 삭제하고 pause-ms 쉰다 → 긴 잠금 없음
+ * - 답글이 남아 있는 댓글은 스레드가 끊기지 않도록 건너뛴다 (답글이 먼저 지워지면 다음 실행에서 대상이 됨)
+ * - 한 번 실행에 max-batches 까지만 처리하고 나머지는 다음 실행으로 미룸
+ * 지표: comments.purged{type=post|news}
+ */
+@Slf4j
+@Service
+public class CommentPurgeService {
+
+    private enum Table {
+        POST("comments", "post"),
+        NEWS("news_comments", "news");
+
+        private final String name;
+        private final String tag;
+
+        Table(String name, String tag) {
+            this.name = name;
+            this.tag = tag;
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final MeterRegistry registry;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long pauseMs;
+    private final int maxBatches;
+
+    public CommentPurgeService(JdbcTemplate jdbc, PlatformTransactionManager txManager, MeterRegistry registry,
+                               @Value("${app.comments.purge.retention-days:30}") int retentionDays,
+                               @Value("${app.comments.purge.batch-size:500}") int batchSize,
+                               @Value("${app.comments.purge.pause-ms:200}") long pauseMs,
+                               @Value("${app.comments.purge.max-batches:200}") int maxBatches) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.registry = registry;
+        this.retentionDays = retentionDays;
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMs = Math.max(0, pauseMs);
+        this.maxBatches = Math.max(1, maxBatches);
+    }
+
+    /** @return 이번 실행에서 지운 행 수 (두 테이블 합) */
+    public int purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        for (Table t : Table.values()) total += purge(t, cutoff);
+        return total;
+    }
+
+    private int purge(Table t, LocalDateTime cutoff) {
+        Counter purged = Counter.builder("comments.purged").tag("type", t.tag).register(registry);
+        String select = "select c.id from " + t.name + " c"
+                + " where c.deleted = true and c.deleted_at < ?"
+                + " and not exists (select 1 from " + t.name + " r where r.parent_id = c.id)"
+                + " order by c.deleted_at, c.id limit ?";
+        String delete = "delete from " + t.name + " where id = ? and deleted = true";
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> ids = jdbc.queryForList(select, Long.class, cutoff, batchSize);
+            if (ids.isEmpty()) break;
+            List<Object[]> args = new ArrayList<>(ids.size());
+            for (Long id : ids) args.add(new Object[]{id});
+            Integer deleted = tx.execute(status -> {
+                int n = 0;
+                for (int r : jdbc.batchUpdate(delete, args)) n += Math.max(r, 0);
+                return n;
+            });
+            int n = deleted == null ? 0 : deleted;
+            purged.increment(n);
+            total += n;
+            if (ids.size() < batchSize || !pause()) break;
+        }
+        if (total > 0) log.info("[comments] purged table={} rows={} cutoff={}", t.name, total, cutoff);
+        return total;
+    }
+
+    private boolean pause() {
+        if (pauseMs == 0) return true;
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
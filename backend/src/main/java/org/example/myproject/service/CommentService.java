@@ -1,18 +1,28 @@
 package org.example.myproject.service;
 
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.example.myproject.dto.comment.CommentCreateRequest;
+import org.example.myproject.dto.comment.CommentCursor;
 import org.example.myproject.dto.comment.CommentDto;
+import org.example.myproject.dto.comment.CommentTree;
 import org.example.myproject.dto.common.IdOnly;
+import org.example.myproject.dto.common.PageResponse;
 import org.example.myproject.entity.Post.Post;
 import org.example.myproject.entity.comment.Comment;
 import org.example.myproject.entity.user.User;
 import org.example.myproject.entity.user.UserRole;
+import org.example.myproject.event.LiveEvent;
+import org.example.myproject.event.LiveEventHub;
 import org.example.myproject.exception.ApiException;
 import org.example.myproject.repository.comment.CommentRepository;
 import org.example.myproject.repository.post.PostRepository;
+import org.example.myproject.util.CommentPath;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,19 +32,95 @@ public class CommentService {
 
     private final CommentRepository comments;
     private final PostRepository posts;
+    private final PostStatsService postStats;
+    private final LiveEventHub events;
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_REPLIES = 3;
+    private static final int MAX_REPLIES = 50;
+
+    // 글 전체를 path 순 range 한 번으로 읽어 트리로 조립
     public List<CommentDto> list(Long postId) {
-        Post p = posts.findById(postId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Post Not Found"));
-        return comments.findByPost(p, org.springframework.data.domain.Pageable.unpaged())
-                .stream().map(CommentDto::from).toList();
+        if (!posts.existsById(postId)) throw new ApiException(HttpStatus.NOT_FOUND, "Post Not Found");
+        return CommentTree.build(comments.findWithAuthorByPostIdOrderByPath(postId)
+                .stream().map(CommentDto::from).toList());
+    }
+
+    // 한 스레드 전체 (페이지 모드에서 잘린 답글 더 보기)
+    public CommentDto thread(Long rootId) {
+        List<CommentDto> flat = comments.findThreadWithAuthor(rootId).stream().map(CommentDto::from).toList();
+        if (flat.isEmpty()) throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
+        return CommentTree.build(flat).get(0);
+    }
+
+    /**
+     * cursor 모드: 최상위 댓글 size 건 + 각 스레드의 앞쪽 답글 replies 건.
+     * 최상위는 keyset 한 번, 답글은 스레드마다 (root_id, path) range 를 replies 건까지만 읽고
+     * 전체 답글 수는 root_id group by 한 번으로 센다.
+     */
+    public PageResponse<CommentDto> page(Long postId, String cursor, Integer size, Integer replies) {
+        if (!posts.existsById(postId)) throw new ApiException(HttpStatus.NOT_FOUND, "Post Not Found");
+        int pageSize = Math.min(size == null ? DEFAULT_PAGE_SIZE : Math.max(size, 1), MAX_PAGE_SIZE);
+        int replyLimit = Math.min(replies == null ? DEFAULT_REPLIES : Math.max(replies, 0), MAX_REPLIES);
+        CommentCursor after = (cursor == null || cursor.isBlank()) ? null : CommentCursor.decode(cursor);
+        List<Comment> rows = after == null
+                ? comments.findRootsWithAuthorByPostId(postId, Limit.of(pageSize + 1))
+                : comments.findRootsWithAuthorByPostIdAfter(postId, after.createdAt(), after.id(), Limit.of(pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<Comment> roots = hasNext ? rows.subList(0, pageSize) : rows;
+        // 스레드마다 앞쪽 replyLimit 건만 읽고, 전체 답글 수는 group by 한 번
+        Map<Long, Integer> total = new HashMap<>();
+        Map<Long, List<CommentDto>> kept = new HashMap<>();
+        if (!roots.isEmpty()) {
+            for (var rc : comments.countRepliesByRootIds(roots.stream().map(Comment::getId).toList())) {
+                total.put(rc.getRootId(), (int) rc.getReplies());
+            }
+        }
+        if (replyLimit > 0) {
+            for (Comment root : roots) {
+                if (total.getOrDefault(root.getId(), 0) == 0) continue;
+                // path 순이라 앞쪽 replyLimit 건은 항상 부모를 포함한다
+                kept.put(root.getId(), comments.findRepliesWithAuthorByRootId(root.getId(), Limit.of(replyLimit))
+                        .stream().map(CommentDto::from).toList());
+            }
+        }
+
+        List<CommentDto> content = new ArrayList<>(roots.size());
+        for (Comment root : roots) {
+            List<CommentDto> flat = new ArrayList<>();
+            flat.add(CommentDto.from(root));
+            flat.addAll(kept.getOrDefault(root.getId(), List.of()));
+            CommentDto built = CommentTree.build(flat).get(0);
+            content.add(built.withReplies(built.replies(), total.getOrDefault(root.getId(), 0)));
+        }
+        String next = hasNext ? CommentCursor.of(content.get(content.size() - 1)).encode() : null;
+        return PageResponse.ofCursor(content, pageSize, next);
     }
 
     @Transactional
     public IdOnly create(Long postId, CommentCreateRequest body, User writer) {
         if (writer.isBlocked()) throw new ApiException(HttpStatus.FORBIDDEN, "blocked");
         Post p = posts.findById(postId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Post Not Found"));
+        Comment parent = body.parentId() == null ? null : replyTarget(body.parentId(), postId);
         Comment c = Comment.builder().post(p).author(writer).content(body.content()).deleted(false).build();
-        return new IdOnly(comments.save(c).getId());
+        Comment saved = comments.save(c);
+        saved.placeUnder(parent); // IDENTITY 라 id 채번 후 경로 확정 (flush 시 update)
+        postStats.addComments(postId, 1);
+        events.publish(LiveEventHub.Channel.POST, postId, new LiveEvent(LiveEvent.COMMENT_CREATED, CommentDto.from(saved)));
+        return new IdOnly(saved.getId());
+    }
+
+    // 최대 깊이의 댓글에 다는 답글은 그 댓글의 형제로 붙임
+    private Comment replyTarget(Long parentId, Long postId) {
+        Comment parent = comments.findById(parentId)
+                .filter(c -> c.getPost().getId().equals(postId))
+                .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST, "invalid parentId"));
+        if (parent.isDeleted()) throw new ApiException(HttpStatus.BAD_REQUEST, "deleted comment");
+        if (parent.getPath() == null) throw new ApiException(HttpStatus.CONFLICT, "comment path not ready");
+        if (parent.getDepth() < CommentPath.MAX_DEPTH) return parent;
+        return comments.findById(parent.getParentId())
+                .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST, "invalid parentId"));
     }
 
     @Transactional
@@ -43,7 +129,11 @@ public class CommentService {
         boolean owner = c.getAuthor().getId().equals(actor.getId());
         boolean admin = actor.getRole()== UserRole.ADMIN;
         if (!owner && !admin) throw new ApiException(HttpStatus.FORBIDDEN, "Forbidden");
+        if (c.isDeleted()) return; // 이미 삭제된 댓글은 카운터를 다시 빼지 않음
         c.softDelete(); // 소프트 삭제
+        postStats.addComments(c.getPost().getId(), -1);
+        events.publish(LiveEventHub.Channel.POST, c.getPost().getId(),
+                new LiveEvent(LiveEvent.COMMENT_DELETED, new LiveEvent.CommentDeleted(c.getId())));
     }
 }
 
@@ -1,12 +1,19 @@
 package org.example.myproject.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.example.myproject.cache.LikeCountBuffer;
+import org.example.myproject.cache.PinnedPostSlot;
+import org.example.myproject.cache.PostDetailCache;
 import org.example.myproject.dto.like.LikeToggleResponse;
-import org.example.myproject.entity.Post.Post;
-import org.example.myproject.entity.like.PostLike;
-import org.example.myproject.entity.like.PostLikeId;
+import org.example.myproject.dto.post.PostSummary;
 import org.example.myproject.entity.user.User;
+import org.example.myproject.event.LiveEvent;
+import org.example.myproject.event.LiveEventHub;
 import org.example.myproject.exception.ApiException;
 import org.example.myproject.repository.like.PostLikeRepository;
 import org.example.myproject.repository.post.PostRepository;
@@ -18,26 +25,61 @@ import org.springframework.transaction.annotation.Transactional;
 public class LikeService {
     private final PostLikeRepository likes;
     private final PostRepository posts;
+    private final PostDetailCache detailCache;
+    private final PinnedPostSlot pinnedSlot;
+    private final LikeCountBuffer likeBuffer;
+    private final LiveEventHub events;
 
+    /** ids 중 current 가 좋아요한 게시글 id (비로그인 / 빈 목록이면 쿼리 없이 빈 집합) */
+    public Set<Long> likedPostIds(User current, Collection<Long> postIds) {
+        if (current == null || postIds.isEmpty()) return Set.of();
+        return new HashSet<>(likes.findLikedPostIds(current.getId(), postIds));
+    }
+
+    public List<PostSummary> markLiked(List<PostSummary> page, User current) {
+        Set<Long> liked = likedPostIds(current, page.stream().map(PostSummary::id).toList());
+        if (liked.isEmpty()) return page;
+        return page.stream().map(s -> liked.contains(s.id()) ? s.withLikedByMe(true) : s).toList();
+    }
+
+    /**
+     * 게시글 행 잠금(select ... for update) → post_likes 멱등 insert / delete → like_count ±1.
+     * 같은 글의 토글이 행 잠금으로 직렬화되므로 연속 클릭에도 중복 키 오류나 데드락 없이 카운터가 정확하고,
+     * 새 좋아요 수는 COUNT(*) 없이 잠금 시점 값 + 증감으로 계산한다.
+     * write-behind 모드에서는 행 잠금 없이 멱등 insert / delete 결과(0 / 1행)로만 증감을 정해 LikeCountBuffer 로 넘긴다.
+     */
     @Transactional
     public LikeToggleResponse toggle(Long postId, User u) {
         if (u.isBlocked()) throw new ApiException(HttpStatus.FORBIDDEN, "blocked");
-        Post p = posts.findById(postId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Post Not Found"));
+        boolean buffered = likeBuffer.isEnabled();
+        long current;
+        if (buffered) {
+            current = posts.findLikeCount(postId)
+                    .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Post Not Found"))
+                    + likeBuffer.pending(LikeCountBuffer.Target.POST, postId);
+        } else {
+            current = posts.lockLikeCount(postId)
+                    .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Post Not Found"));
+        }
 
-        var existing = likes.findByUserAndPost(u, p);
         boolean liked;
-        if (existing.isPresent()) {
-            likes.delete(existing.get());
-            liked = false;
-        } else {
-            PostLike pl = PostLike.builder()
-                    .id(new PostLikeId(u.getId(), p.getId()))
-                    .user(u).post(p).createdAt(LocalDateTime.now()).build();
-            likes.save(pl);
+        int delta;
+        if (likes.insertIgnore(u.getId(), postId, LocalDateTime.now()) == 1) {
             liked = true;
+            delta = 1;
+        } else {
+            liked = false;
+            delta = -likes.deleteByIds(u.getId(), postId);
         }
-        int count = (int) likes.countByPost(p);
+        if (delta != 0) {
+            if (buffered) likeBuffer.add(LikeCountBuffer.Target.POST, postId, delta);
+            else posts.addLikeCount(postId, delta);
+        }
+        int count = (int) (current + delta);
+
+        detailCache.evict(postId);
+        pinnedSlot.replaceIfCurrent(postId, s -> s.withLikeCount(count));
+        if (delta != 0) events.publish(LiveEventHub.Channel.POST, postId, new LiveEvent(LiveEvent.LIKE_COUNT, new LiveEvent.LikeCount(count)));
         return new LikeToggleResponse(liked, count);
     }
 }
-
@@ -2,13 +2,21 @@ package org.example.myproject.service;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.cache.LikeCountBuffer;
+import org.example.myproject.dto.common.ResourceVersion;
 import org.example.myproject.dto.news.NewsBriefingDto;
+import org.example.myproject.entity.content.HtmlOwner;
 import org.example.myproject.entity.news.NewsBriefing;
+import org.example.myproject.entity.user.User;
 import org.example.myproject.repository.news.NewsBriefingRepository;
 import org.example.myproject.repository.news.NewsLikeRepository;
+import org.example.myproject.util.ConditionalGet;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +29,8 @@ public class NewsBriefingService {
     private final NewsBriefingRepository newsBriefings;
     private final SecurityBriefingService briefingService;
     private final NewsLikeRepository newsLikes;
+    private final PrecompressedHtmlService precompressed;
+    private final LikeCountBuffer likeBuffer;
 
     @Transactional
     public NewsBriefingDto generateAndSaveToday() {
@@ -31,7 +41,7 @@ public class NewsBriefingService {
             NewsBriefing saved = upsert(today, html);
             log.info("[news] generateAndSaveToday saved id={} date={} htmlChars={}",
                     saved.getId(), saved.getBriefingDate(), html != null ? html.length() : 0);
-            return toDto(saved);
+            return toDto(saved, false);
         } catch (Exception e) {
             log.error("[news] generateAndSaveToday failed date={} msg={}", today, e.getMessage(), e);
             throw e;
@@ -41,11 +51,11 @@ public class NewsBriefingService {
     @Transactional
     public NewsBriefingDto save(LocalDate briefingDate, String contentHtml) {
         NewsBriefing saved = upsert(briefingDate, contentHtml);
-        return toDto(saved);
+        return toDto(saved, false);
     }
 
     @Transactional(readOnly = true)
-    public List<NewsBriefingDto> list(LocalDate from, LocalDate to, String q) {
+    public List<NewsBriefingDto> list(LocalDate from, LocalDate to, String q, User current) {
         String query = (q == null) ? null : q.trim();
         boolean hasQ = query != null && !query.isBlank();
         boolean hasFrom = from != null;
@@ -73,38 +83,83 @@ public class NewsBriefingService {
                     : newsBriefings.findAllByOrderByBriefingDateDesc();
         }
 
-        return items.stream().map(this::toDto).toList();
+        Set<Long> liked = likedIds(current, items.stream().map(NewsBriefing::getId).toList());
+        return items.stream().map(b -> toDto(b, liked.contains(b.getId()))).toList();
     }
 
     @Transactional(readOnly = true)
-    public NewsBriefingDto getByDate(LocalDate briefingDate) {
+    public NewsBriefingDto getByDate(LocalDate briefingDate, User current) {
         NewsBriefing found = newsBriefings.findByBriefingDate(briefingDate)
                 .orElseThrow(() -> new org.example.myproject.exception.ApiException(
                         org.springframework.http.HttpStatus.NOT_FOUND, "Not Found"));
-        return toDto(found);
+        return toDto(found, !likedIds(current, List.of(found.getId())).isEmpty());
+    }
+
+    // 브리핑은 모두 공개: 수정 시각 + 좋아요 수로 검증자 생성 (content_html 은 읽지 않음)
+    // 로그인 사용자는 likedByMe 가 달라지므로 ETag 에 포함하고 private 로 응답
+    // 좋아요 토글은 updatedAt 을 바꾸지 않으므로 Last-Modified 는 보내지 않음 (ETag 로만 검증)
+    @Transactional(readOnly = true)
+    public ResourceVersion version(LocalDate briefingDate, User current) {
+        var v = newsBriefings.findVersionByBriefingDate(briefingDate)
+                .orElseThrow(() -> new org.example.myproject.exception.ApiException(
+                        org.springframework.http.HttpStatus.NOT_FOUND, "Not Found"));
+        long likeCount = v.getLikeCount() + likeBuffer.pending(LikeCountBuffer.Target.NEWS, v.getId());
+        boolean liked = !likedIds(current, List.of(v.getId())).isEmpty();
+        return new ResourceVersion(
+                ConditionalGet.etag("news", v.getId(), v.getUpdatedAt(), likeCount, current == null ? null : current.getId(), liked),
+                -1,
+                current != null);
+    }
+
+    public void requireExists(Long id) {
+        if (!newsBriefings.existsById(id)) {
+            throw new org.example.myproject.exception.ApiException(
+                    org.springframework.http.HttpStatus.NOT_FOUND, "Not Found");
+        }
+    }
+
+    public byte[] html(LocalDate briefingDate, String encoding) {
+        var v = newsBriefings.findVersionByBriefingDate(briefingDate)
+                .orElseThrow(() -> new org.example.myproject.exception.ApiException(
+                        org.springframework.http.HttpStatus.NOT_FOUND, "Not Found"));
+        return precompressed.bytes(HtmlOwner.NEWS, v.getId(), encoding, () -> newsBriefings.findById(v.getId())
+                .map(NewsBriefing::getContentHtml)
+                .orElseThrow(() -> new org.example.myproject.exception.ApiException(
+                        org.springframework.http.HttpStatus.NOT_FOUND, "Not Found")));
     }
 
     private NewsBriefing upsert(LocalDate briefingDate, String contentHtml) {
         NewsBriefing existing = newsBriefings.findByBriefingDate(briefingDate).orElse(null);
         if (existing != null) {
             existing.updateContent(contentHtml);
+            precompressed.store(HtmlOwner.NEWS, existing.getId(), contentHtml);
             return existing;
         }
         NewsBriefing created = NewsBriefing.builder()
                 .briefingDate(briefingDate)
                 .contentHtml(contentHtml)
                 .build();
-        return newsBriefings.save(created);
+        NewsBriefing saved = newsBriefings.save(created);
+        precompressed.store(HtmlOwner.NEWS, saved.getId(), contentHtml);
+        return saved;
+    }
+
+    // 목록 / 상세의 likedByMe 를 한 번의 쿼리로 (비로그인이면 쿼리 없음)
+    private Set<Long> likedIds(User current, Collection<Long> briefingIds) {
+        if (current == null || briefingIds.isEmpty()) return Set.of();
+        return new HashSet<>(newsLikes.findLikedBriefingIds(current.getId(), briefingIds));
     }
 
-    private NewsBriefingDto toDto(NewsBriefing entity) {
-        int likeCount = (int) newsLikes.countByBriefing(entity);
+    private NewsBriefingDto toDto(NewsBriefing entity, boolean likedByMe) {
+        // 브리핑마다 COUNT 하지 않고 비정규화 컬럼 + write-behind 미반영분
+        int likeCount = (int) (entity.getLikeCount() + likeBuffer.pending(LikeCountBuffer.Target.NEWS, entity.getId()));
         return new NewsBriefingDto(
                 entity.getId(),
                 entity.getBriefingDate(),
                 entity.getContentHtml(),
                 entity.getCreatedAt(),
-                likeCount
+                likeCount,
+                likedByMe
         );
     }
 }
@@ -1,17 +1,27 @@
 package org.example.myproject.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.example.myproject.dto.comment.CommentCreateRequest;
+import org.example.myproject.dto.comment.CommentCursor;
 import org.example.myproject.dto.comment.CommentDto;
+import org.example.myproject.dto.comment.CommentTree;
 import org.example.myproject.dto.common.IdOnly;
+import org.example.myproject.dto.common.PageResponse;
 import org.example.myproject.entity.news.NewsBriefing;
 import org.example.myproject.entity.news.NewsComment;
 import org.example.myproject.entity.user.User;
 import org.example.myproject.entity.user.UserRole;
+import org.example.myproject.event.LiveEvent;
+import org.example.myproject.event.LiveEventHub;
 import org.example.myproject.exception.ApiException;
 import org.example.myproject.repository.news.NewsBriefingRepository;
 import org.example.myproject.repository.news.NewsCommentRepository;
+import org.example.myproject.util.CommentPath;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,14 +32,65 @@ public class NewsCommentService {
 
     private final NewsCommentRepository comments;
     private final NewsBriefingRepository briefings;
+    private final LiveEventHub events;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_REPLIES = 3;
+    private static final int MAX_REPLIES = 50;
 
     public List<CommentDto> list(Long briefingId) {
-        NewsBriefing briefing = briefings.findById(briefingId)
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
-        return comments.findByBriefing(briefing, org.springframework.data.domain.Pageable.unpaged())
+        if (!briefings.existsById(briefingId)) throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
+        return CommentTree.build(comments.findWithAuthorByBriefingIdOrderByPath(briefingId)
                 .stream()
                 .map(CommentDto::from)
-                .toList();
+                .toList());
+    }
+
+    public CommentDto thread(Long rootId) {
+        List<CommentDto> flat = comments.findThreadWithAuthor(rootId).stream().map(CommentDto::from).toList();
+        if (flat.isEmpty()) throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
+        return CommentTree.build(flat).get(0);
+    }
+
+    // CommentService.page 와 동일: 최상위 keyset 페이지 + 스레드별 앞쪽 답글
+    public PageResponse<CommentDto> page(Long briefingId, String cursor, Integer size, Integer replies) {
+        if (!briefings.existsById(briefingId)) throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
+        int pageSize = Math.min(size == null ? DEFAULT_PAGE_SIZE : Math.max(size, 1), MAX_PAGE_SIZE);
+        int replyLimit = Math.min(replies == null ? DEFAULT_REPLIES : Math.max(replies, 0), MAX_REPLIES);
+        CommentCursor after = (cursor == null || cursor.isBlank()) ? null : CommentCursor.decode(cursor);
+        List<NewsComment> rows = after == null
+                ? comments.findRootsWithAuthorByBriefingId(briefingId, Limit.of(pageSize + 1))
+                : comments.findRootsWithAuthorByBriefingIdAfter(briefingId, after.createdAt(), after.id(), Limit.of(pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<NewsComment> roots = hasNext ? rows.subList(0, pageSize) : rows;
+        // 스레드마다 앞쪽 replyLimit 건만 읽고, 전체 답글 수는 group by 한 번
+        Map<Long, Integer> total = new HashMap<>();
+        Map<Long, List<CommentDto>> kept = new HashMap<>();
+        if (!roots.isEmpty()) {
+            for (var rc : comments.countRepliesByRootIds(roots.stream().map(NewsComment::getId).toList())) {
+                total.put(rc.getRootId(), (int) rc.getReplies());
+            }
+        }
+        if (replyLimit > 0) {
+            for (NewsComment root : roots) {
+                if (total.getOrDefault(root.getId(), 0) == 0) continue;
+                // path 순이라 앞쪽 replyLimit 건은 항상 부모를 포함한다
+                kept.put(root.getId(), comments.findRepliesWithAuthorByRootId(root.getId(), Limit.of(replyLimit))
+                        .stream().map(CommentDto::from).toList());
+            }
+        }
+
+        List<CommentDto> content = new ArrayList<>(roots.size());
+        for (NewsComment root : roots) {
+            List<CommentDto> flat = new ArrayList<>();
+            flat.add(CommentDto.from(root));
+            flat.addAll(kept.getOrDefault(root.getId(), List.of()));
+            CommentDto built = CommentTree.build(flat).get(0);
+            content.add(built.withReplies(built.replies(), total.getOrDefault(root.getId(), 0)));
+        }
+        String next = hasNext ? CommentCursor.of(content.get(content.size() - 1)).encode() : null;
+        return PageResponse.ofCursor(content, pageSize, next);
     }
 
     @Transactional
@@ -37,13 +98,28 @@ public class NewsCommentService {
         if (writer.isBlocked()) throw new ApiException(HttpStatus.FORBIDDEN, "blocked");
         NewsBriefing briefing = briefings.findById(briefingId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
+        NewsComment parent = body.parentId() == null ? null : replyTarget(body.parentId(), briefingId);
         NewsComment c = NewsComment.builder()
                 .briefing(briefing)
                 .author(writer)
                 .content(body.content())
                 .deleted(false)
                 .build();
-        return new IdOnly(comments.save(c).getId());
+        NewsComment saved = comments.save(c);
+        saved.placeUnder(parent);
+        events.publish(LiveEventHub.Channel.NEWS, briefingId, new LiveEvent(LiveEvent.COMMENT_CREATED, CommentDto.from(saved)));
+        return new IdOnly(saved.getId());
+    }
+
+    private NewsComment replyTarget(Long parentId, Long briefingId) {
+        NewsComment parent = comments.findById(parentId)
+                .filter(c -> c.getBriefing().getId().equals(briefingId))
+                .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST, "invalid parentId"));
+        if (parent.isDeleted()) throw new ApiException(HttpStatus.BAD_REQUEST, "deleted comment");
+        if (parent.getPath() == null) throw new ApiException(HttpStatus.CONFLICT, "comment path not ready");
+        if (parent.getDepth() < CommentPath.MAX_DEPTH) return parent;
+        return comments.findById(parent.getParentId())
+                .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST, "invalid parentId"));
     }
 
     @Transactional
@@ -53,6 +129,9 @@ public class NewsCommentService {
         boolean owner = c.getAuthor().getId().equals(actor.getId());
         boolean admin = actor.getRole() == UserRole.ADMIN;
         if (!owner && !admin) throw new ApiException(HttpStatus.FORBIDDEN, "Forbidden");
+        if (c.isDeleted()) return;
         c.softDelete();
+        events.publish(LiveEventHub.Channel.NEWS, c.getBriefing().getId(),
+                new LiveEvent(LiveEvent.COMMENT_DELETED, new LiveEvent.CommentDeleted(c.getId())));
     }
 }
@@ -2,11 +2,11 @@ package org.example.myproject.service;
 
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.example.myproject.cache.LikeCountBuffer;
 import org.example.myproject.dto.like.LikeToggleResponse;
-import org.example.myproject.entity.news.NewsBriefing;
-import org.example.myproject.entity.news.NewsLike;
-import org.example.myproject.entity.news.NewsLikeId;
 import org.example.myproject.entity.user.User;
+import org.example.myproject.event.LiveEvent;
+import org.example.myproject.event.LiveEventHub;
 import org.example.myproject.exception.ApiException;
 import org.example.myproject.repository.news.NewsBriefingRepository;
 import org.example.myproject.repository.news.NewsLikeRepository;
@@ -19,29 +19,39 @@ import org.springframework.transaction.annotation.Transactional;
 public class NewsLikeService {
     private final NewsLikeRepository likes;
     private final NewsBriefingRepository briefings;
+    private final LikeCountBuffer likeBuffer;
+    private final LiveEventHub events;
 
+    // LikeService.toggle 과 같은 방식 (행 잠금 + 멱등 insert / delete + 카운터 ±1, 또는 write-behind)
     @Transactional
     public LikeToggleResponse toggle(Long briefingId, User u) {
         if (u.isBlocked()) throw new ApiException(HttpStatus.FORBIDDEN, "blocked");
-        NewsBriefing briefing = briefings.findById(briefingId)
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
+        boolean buffered = likeBuffer.isEnabled();
+        long current;
+        if (buffered) {
+            current = briefings.findLikeCount(briefingId)
+                    .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"))
+                    + likeBuffer.pending(LikeCountBuffer.Target.NEWS, briefingId);
+        } else {
+            current = briefings.lockLikeCount(briefingId)
+                    .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
+        }
 
-        var existing = likes.findByUserAndBriefing(u, briefing);
         boolean liked;
-        if (existing.isPresent()) {
-            likes.delete(existing.get());
-            liked = false;
-        } else {
-            NewsLike nl = NewsLike.builder()
-                    .id(new NewsLikeId(u.getId(), briefing.getId()))
-                    .user(u)
-                    .briefing(briefing)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-            likes.save(nl);
+        int delta;
+        if (likes.insertIgnore(u.getId(), briefingId, LocalDateTime.now()) == 1) {
             liked = true;
+            delta = 1;
+        } else {
+            liked = false;
+            delta = -likes.deleteByIds(u.getId(), briefingId);
+        }
+        if (delta != 0) {
+            if (buffered) likeBuffer.add(LikeCountBuffer.Target.NEWS, briefingId, delta);
+            else briefings.addLikeCount(briefingId, delta);
         }
-        int count = (int) likes.countByBriefing(briefing);
+        int count = (int) (current + delta);
+        if (delta != 0) events.publish(LiveEventHub.Channel.NEWS, briefingId, new LiveEvent(LiveEvent.LIKE_COUNT, new LiveEvent.LikeCount(count)));
         return new LikeToggleResponse(liked, count);
     }
 }
@@ -0,0 +1,50 @@
+package org.example.myproject.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.dto.post.PostSearchHit;
+import org.example.myproject.dto.post.PostSummary;
+import org.example.myproject.entity.user.User;
+import org.example.myproject.entity.user.UserRole;
+import org.example.myproject.exception.ApiException;
+import org.example.myproject.repository.post.PostRepository;
+import org.example.myproject.repository.post.PostSpecifications;
+import org.example.myproject.search.PostSearchIndex;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service @RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final int MAX_SIZE = 50;
+
+    private final PostSearchIndex index;
+    private final PostRepository posts;
+    private final LikeService likes;
+
+    public List<PostSearchHit> search(String q, Integer size, Boolean includePrivate, User current) {
+        if (q == null || q.isBlank()) throw new ApiException(HttpStatus.BAD_REQUEST, "q required");
+        boolean admin = current != null && current.getRole() == UserRole.ADMIN && Boolean.TRUE.equals(includePrivate);
+        int limit = Math.min(size == null ? 10 : size, MAX_SIZE);
+
+        List<PostSearchIndex.Hit> hits = index.search(q, admin, limit);
+        if (hits.isEmpty()) return List.of();
+
+        // 순위는 색인 기준, 목록 표시 정보는 프로젝션 한 번으로 (공개 여부는 DB 기준으로 다시 확인)
+        List<Long> ids = hits.stream().map(PostSearchIndex.Hit::postId).toList();
+        Set<Long> liked = likes.likedPostIds(current, ids);
+        Map<Long, PostSummary> byId = posts.findSummarySlice(
+                        PostSpecifications.visible(admin).and(PostSpecifications.idIn(ids)), ids.size())
+                .stream()
+                .map(s -> liked.contains(s.id()) ? s.withLikedByMe(true) : s).collect(Collectors.toMap(PostSummary::id, Function.identity()));
+
+        return hits.stream()
+                .filter(h -> byId.containsKey(h.postId()))
+                .map(h -> new PostSearchHit(byId.get(h.postId()), h.score(), h.titleHtml(), h.snippetHtml()))
+                .toList();
+    }
+}
@@ -1,98 +1,131 @@
 package org.example.myproject.service;
 
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.vladsch.flexmark.html.HtmlRenderer;
-import com.vladsch.flexmark.util.data.MutableDataSet;
 import lombok.RequiredArgsConstructor;
+import org.example.myproject.cache.LikeCountBuffer;
+import org.example.myproject.cache.PinnedPostSlot;
+import org.example.myproject.cache.PostDetailCache;
+import org.example.myproject.cache.PostViewBuffer;
 import org.example.myproject.dto.common.IdOnly;
 import org.example.myproject.dto.common.PageResponse;
+import org.example.myproject.dto.common.ResourceVersion;
 import org.example.myproject.dto.post.*;
 import org.example.myproject.entity.Post.Post;
+import org.example.myproject.entity.Post.PostStats;
 import org.example.myproject.entity.category.Category;
+import org.example.myproject.entity.content.HtmlOwner;
 import org.example.myproject.entity.user.User;
 import org.example.myproject.entity.user.UserRole;
 import org.example.myproject.exception.ApiException;
+import org.example.myproject.markdown.MarkdownRenderer;
 import org.example.myproject.repository.category.CategoryRepository;
 import org.example.myproject.repository.like.PostLikeRepository;
 import org.example.myproject.repository.post.PostRepository;
+import org.example.myproject.repository.post.PostSpecifications;
+import org.example.myproject.search.PostSearchIndex;
+import org.example.myproject.util.AfterCommit;
+import org.example.myproject.util.ConditionalGet;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.vladsch.flexmark.parser.Parser;
-import com.vladsch.flexmark.util.ast.Node;
 
 
 @Service @RequiredArgsConstructor
 public class PostService {
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository posts;
     private final CategoryRepository categories;
     private final PostLikeRepository likes;
+    private final PostSearchIndex searchIndex;
+    private final PostDetailCache detailCache;
+    private final PrecompressedHtmlService precompressed;
+    private final MarkdownRenderer markdown;
+    private final PinnedPostSlot pinnedSlot;
+    private final LikeCountBuffer likeBuffer;
+    private final LikeService likeService;
+    private final PostStatsService postStats;
+    private final PostViewBuffer viewBuffer;
 
-    public PageResponse<PostSummary> search(Integer page, Integer size, String title, String categoryIds, Boolean includePrivate, User current) {
-        boolean admin = current != null && current.getRole()== UserRole.ADMIN && Boolean.TRUE.equals(includePrivate);
-        Pageable pageable = PageRequest.of(
-                page==null?0:page,
-                size==null?10:size,
-                Sort.by(Sort.Order.desc("isPinned"), Sort.Order.desc("createdAt"))
-        );
-
-        Page<Post> p;
-        if (categoryIds != null && !categoryIds.isBlank()) {
-            Set<Long> ids = Arrays.stream(categoryIds.split(",")).map(String::trim).filter(s->!s.isBlank()).map(Long::valueOf).collect(Collectors.toSet());
-            // 단순 구현: 카테고리 하나만 필터링 (여러개 조합 필터가 필요하면 Specification/QueryDSL)
-            Category c = categories.findById(ids.iterator().next()).orElse(null);
-            if (c != null) p = title==null || title.isBlank()
-                    ? posts.findByCategory(c, pageable)
-                    : posts.findByTitleContainingIgnoreCase(title, pageable).map(x->x); // 간단화
-            else p = Page.empty(pageable);
-        } else {
-            p = (title==null || title.isBlank())
-                    ? (admin ? posts.findAll(pageable) : posts.findByIsPrivateFalse(pageable))
-                    : posts.findByTitleContainingIgnoreCase(title, pageable);
-        }
+    // true 면 posts.like_count 컬럼을 그대로 읽고, false 면 post_likes 를 페이지 단위로 집계
+    @Value("${app.posts.denormalized-like-count:false}")
+    private boolean denormalizedLikeCount;
 
-        List<PostSummary> content = p.stream()
-                .filter(po -> admin || !po.isPrivate()) // 비관리자는 비공개 제외
-                .map(po -> PostSummary.from(po, (int) likes.countByPost(po)))
-                .toList();
-        return new PageResponse<>(content, p.getNumber(), p.getSize(), p.getTotalElements(), p.getTotalPages());
+    public PageResponse<PostSummary> search(Integer page, Integer size, String title, String categoryIds, Boolean includePrivate, String cursor, User current) {
+        boolean admin = current != null && current.getRole()== UserRole.ADMIN && Boolean.TRUE.equals(includePrivate);
+        Specification<Post> spec = PostSpecifications.visible(admin)
+                .and(PostSpecifications.inCategories(parseIds(categoryIds)))
+                .and(PostSpecifications.titleContains(title));
+        return summaries(spec, page, size, cursor, current);
     }
 
-    public PageResponse<PostSummary> listByCategory(Long categoryId, Integer page, Integer size, String title, Boolean includePrivate, User current) {
-        Pageable pageable = PageRequest.of(
-                page==null?0:page,
-                size==null?10:size,
-                Sort.by(Sort.Order.desc("isPinned"), Sort.Order.desc("createdAt"))
-        );
-        Category c = categories.findById(categoryId).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
+    public PageResponse<PostSummary> listByCategory(Long categoryId, Integer page, Integer size, String title, Boolean includePrivate, String cursor, User current) {
+        if (!categories.existsById(categoryId)) throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
         boolean admin = current != null && current.getRole()== UserRole.ADMIN && Boolean.TRUE.equals(includePrivate);
-        Page<Post> p = (title==null || title.isBlank())
-                ? posts.findByCategory(c, pageable)
-                : posts.findByTitleContainingIgnoreCase(title, pageable);
-        var content = p.stream().filter(po -> admin || !po.isPrivate())
-                .map(po -> PostSummary.from(po, (int) likes.countByPost(po))).toList();
+        Specification<Post> spec = PostSpecifications.visible(admin)
+                .and(PostSpecifications.inCategories(Set.of(categoryId)))
+                .and(PostSpecifications.titleContains(title));
+        return summaries(spec, page, size, cursor, current);
+    }
+
+    // 카테고리 IN / 제목 / 공개 여부 / 고정글 정렬을 한 번의 SQL 로 처리 (PostSummaryQueryRepository)
+    // cursor 파라미터가 오면(빈 문자열 = 첫 페이지) OFFSET/COUNT 대신 keyset seek 로 조회
+    private PageResponse<PostSummary> summaries(Specification<Post> spec, Integer page, Integer size, String cursor, User current) {
+        int pageSize = Math.min(size == null ? DEFAULT_PAGE_SIZE : Math.max(size, 1), MAX_PAGE_SIZE);
+        if (cursor != null) {
+            PostCursor after = cursor.isBlank() ? null : PostCursor.decode(cursor);
+            List<PostSummary> rows = posts.findSummarySlice(spec.and(PostSpecifications.after(after)), pageSize + 1);
+            boolean hasNext = rows.size() > pageSize;
+            List<PostSummary> content = likeService.markLiked(withStats(withLikeCounts(hasNext ? rows.subList(0, pageSize) : rows)), current);
+            String next = hasNext ? PostCursor.of(content.get(content.size() - 1)).encode() : null;
+            return PageResponse.ofCursor(content, pageSize, next);
+        }
+        Pageable pageable = PageRequest.of(page == null ? 0 : Math.max(page, 0), pageSize);
+        Page<PostSummary> p = posts.findSummaries(spec, pageable);
+        List<PostSummary> content = likeService.markLiked(withStats(withLikeCounts(p.getContent())), current);
         return new PageResponse<>(content, p.getNumber(), p.getSize(), p.getTotalElements(), p.getTotalPages());
     }
 
+    private Set<Long> parseIds(String csv) {
+        if (csv == null || csv.isBlank()) return Set.of();
+        try {
+            return Arrays.stream(csv.split(",")).map(String::trim).filter(s->!s.isBlank()).map(Long::valueOf).collect(Collectors.toSet());
+        } catch (NumberFormatException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "invalid categoryId");
+        }
+    }
+
     @Transactional
     public IdOnly create(PostCreateRequest body, User admin) {
         requireAdmin(admin);
         Category c = categories.findById(body.categoryId()).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Category Not Found"));
+        var rendered = markdown.render(body.contentMd());
         Post p = Post.builder()
                 .title(body.title())
                 .category(c)
                 .author(admin)
                 .contentMd(body.contentMd())
-                .contentHtml(Markdown.toHtml(body.contentMd()))
+                .contentHtml(rendered.html())
+                .contentMdSha(rendered.sha())
                 .isPrivate(Boolean.TRUE.equals(body.isPrivate()))
                 .build();
-        return new IdOnly(posts.save(p).getId());
+        Post saved = posts.save(p);
+        postStats.init(saved.getId());
+        AfterCommit.run(() -> searchIndex.index(saved)); // 롤백되면 색인도 그대로
+        precompressed.store(HtmlOwner.POST, saved.getId(), saved.getContentHtml());
+        return new IdOnly(saved.getId());
     }
 
 //    @Transactional
@@ -110,25 +143,99 @@ public class PostService {
 //        return new IdOnly(posts.save(p).getId());
 //    }
 
-    @Transactional(readOnly = true)
+    // 트랜잭션을 열지 않음: 캐시 적중 시 커넥션을 전혀 잡지 않도록
     public PostDetail get(Long id, User current) {
-        Post p = posts.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
-        if (p.isPrivate()) {
+        PostDetail d = detailCache.get(id);
+        if (d == null) {
+            long stamp = detailCache.stamp(id); // 읽는 도중 무효화되면 put 이 무시됨
+            Post p = posts.findWithCategoryById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
+            d = PostDetail.from(p, likeCount(p), postStats.byPostId(id));
+            detailCache.put(d, stamp);
+        }
+        if (d.isPrivate()) {
             if (current==null || current.getRole()!=UserRole.ADMIN) throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
         }
-        int likeCount = (int) likes.countByPost(p);
-        return PostDetail.from(p, likeCount);
+        d = d.withViewCount(d.viewCount() + viewBuffer.pending(id)); // 아직 flush 되지 않은 조회수
+        return likedByMe(id, current) ? d.withLikedByMe(true) : d;
     }
 
-    @Transactional(readOnly = true)
-    public PostSummary getPinned(User current) {
-        var pinned = posts.findFirstByIsPinnedTrueOrderByCreatedAtDesc().orElse(null);
-        if (pinned == null) return null;
-        if (pinned.isPrivate()) {
-            if (current == null || current.getRole() != UserRole.ADMIN) return null;
+    /**
+     * 상세 응답의 검증자. 캐시에 있으면 DB 를 타지 않고, 없으면 본문을 제외한 컬럼만 조회한다.
+     * 비공개 글은 get() 과 같은 기준으로 404 를 먼저 판단해 304 로 존재가 드러나지 않게 한다.
+     * 조회수는 매 조회마다 바뀌므로 ETag 에 넣지 않는다 (넣으면 304 가 사실상 사라짐).
+     * Last-Modified 는 보내지 않는다: 좋아요 / 댓글 수 / 고정 / 카테고리 이름 변경은 updatedAt 을 바꾸지 않아
+     * If-Modified-Since 만 보내는 클라이언트가 바뀐 응답 대신 304 를 받게 된다.
+     */
+    public ResourceVersion version(Long id, User current) {
+        PostDetail d = detailCache.peek(id);
+        boolean isPrivate;
+        String etag;
+        LocalDateTime updatedAt;
+        if (d != null) {
+            isPrivate = d.isPrivate();
+            updatedAt = d.updatedAt();
+            etag = ConditionalGet.etag("post", id, updatedAt, d.likeCount(), d.commentCount(), d.isPinned(), isPrivate,
+                    d.category().id(), d.category().name(), d.category().slug());
+        } else {
+            var v = posts.findVersionById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
+            long likeCount = denormalizedLikeCount
+                    ? v.getLikeCount() + likeBuffer.pending(LikeCountBuffer.Target.POST, id)
+                    : likes.countByPostId(id);
+            PostStats st = postStats.byPostId(id);
+            int commentCount = st == null ? 0 : (int) st.getCommentCount();
+            isPrivate = v.getIsPrivate();
+            updatedAt = v.getUpdatedAt();
+            etag = ConditionalGet.etag("post", id, updatedAt, likeCount, commentCount, v.getIsPinned(), isPrivate,
+                    v.getCategoryId(), v.getCategoryName(), v.getCategorySlug());
+        }
+        if (isPrivate) {
+            if (current==null || current.getRole()!=UserRole.ADMIN) throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
+        }
+        if (current != null) {
+            // likedByMe 가 사용자마다 다르므로 ETag 에 반영하고 공유 캐시 저장은 막음
+            return new ResourceVersion(ConditionalGet.etag(etag, current.getId(), likedByMe(id, current)), -1, true);
+        }
+        return new ResourceVersion(etag, -1, isPrivate);
+    }
+
+    /** 구독(SSE) 등 본문 없이 접근 가능 여부만 필요한 경우: 없는 글 / 비관리자의 비공개 글은 404 */
+    public void requireReadable(Long id, User current) {
+        var v = posts.findVersionById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
+        if (v.getIsPrivate() && (current==null || current.getRole()!=UserRole.ADMIN)) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
         }
-        int likeCount = (int) likes.countByPost(pinned);
-        return PostSummary.from(pinned, likeCount);
+    }
+
+    /** 상세 조회수 집계 (관리자 조회는 제외, DB 반영은 PostViewBuffer 가 모아서) */
+    public void recordView(Long id, User current) {
+        if (current != null && current.getRole() == UserRole.ADMIN) return;
+        viewBuffer.increment(id);
+    }
+
+    /** 사전 압축된 본문 html (권한 확인은 version() 에서 먼저 수행) */
+    public byte[] html(Long id, String encoding) {
+        return precompressed.bytes(HtmlOwner.POST, id, encoding, () -> posts.findById(id)
+                .map(Post::getContentHtml)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found")));
+    }
+
+    // 슬롯이 채워져 있으면 비로그인 조회는 DB 를 전혀 타지 않음 (로그인 시 likedByMe 확인 1회, 비공개 고정글은 관리자에게만)
+    public PostSummary getPinned(User current) {
+        boolean admin = current != null && current.getRole() == UserRole.ADMIN;
+        PostSummary pinned = pinnedSlot.get(admin, this::loadPinned);
+        if (pinned == null || current == null) return pinned;
+        return likedByMe(pinned.id(), current) ? pinned.withLikedByMe(true) : pinned;
+    }
+
+    public PostSummary refreshPinned() {
+        PostSummary pinned = loadPinned();
+        pinnedSlot.load(pinned);
+        return pinned;
+    }
+
+    private PostSummary loadPinned() {
+        List<PostSummary> rows = withStats(withLikeCounts(posts.findSummarySlice(PostSpecifications.pinned(), 1)));
+        return rows.isEmpty() ? null : rows.get(0);
     }
 
     @Transactional
@@ -142,8 +249,17 @@ public class PostService {
             Category c = categories.findById(body.categoryId()).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Category Not Found"));
             p.moveCategory(c);
         }
-        if (body.contentMd()!=null) p.updateContent(body.contentMd(), Markdown.toHtml(body.contentMd()));
+        // 본문 해시가 저장된 값과 같으면 렌더링 / 사전 압축을 건너뜀
+        if (body.contentMd()!=null && !markdown.sha(body.contentMd()).equals(p.getContentMdSha())) {
+            var rendered = markdown.render(body.contentMd());
+            p.updateContent(body.contentMd(), rendered.html(), rendered.sha());
+            precompressed.store(HtmlOwner.POST, p.getId(), p.getContentHtml());
+        }
         if (body.isPrivate()!=null) p.setPrivate(body.isPrivate());
+        AfterCommit.run(() -> searchIndex.index(p));
+        detailCache.evict(p.getId());
+        PostSummary changed = PostSummary.from(p, 0);
+        pinnedSlot.replaceIfCurrent(p.getId(), s -> changed.withLikeCount(s.likeCount()).withStats(s.commentCount(), s.viewCount()));
         return new IdOnly(p.getId());
     }
 
@@ -153,8 +269,16 @@ public class PostService {
         Post p = posts.findById(id).orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "Not Found"));
         if (pinned) {
             posts.unpinAllExcept(p.getId());
+            detailCache.clear(); // 기존 고정글도 함께 바뀌므로 전체 무효화 (드문 작업)
+        } else {
+            detailCache.evict(p.getId());
         }
         p.setPinned(pinned);
+        if (pinned) {
+            pinnedSlot.set(withStats(List.of(PostSummary.from(p, likeCount(p)))).get(0));
+        } else {
+            pinnedSlot.removeIfCurrent(p.getId());
+        }
         return new IdOnly(p.getId());
     }
 
@@ -163,6 +287,49 @@ public class PostService {
         requireAdmin(admin);
         if (!posts.existsById(id)) throw new ApiException(HttpStatus.NOT_FOUND, "Not Found");
         posts.deleteById(id);
+        postStats.delete(id);
+        precompressed.delete(HtmlOwner.POST, id);
+        AfterCommit.run(() -> searchIndex.remove(id));
+        detailCache.evict(id);
+        pinnedSlot.removeIfCurrent(id);
+    }
+
+    private boolean likedByMe(Long postId, User current) {
+        return !likeService.likedPostIds(current, List.of(postId)).isEmpty();
+    }
+
+    private int likeCount(Post p) {
+        return denormalizedLikeCount
+                ? (int) (p.getLikeCount() + likeBuffer.pending(LikeCountBuffer.Target.POST, p.getId()))
+                : (int) likes.countByPost(p);
+    }
+
+    // 페이지 단위 좋아요 수: 게시글마다 countByPost 를 부르지 않고 group by 한 번으로 채움
+    private List<PostSummary> withLikeCounts(List<PostSummary> page) {
+        if (page.isEmpty()) return page;
+        if (denormalizedLikeCount) { // 프로젝션이 이미 like_count 를 담고 있음 (write-behind 미반영분만 더함)
+            if (!likeBuffer.isEnabled()) return page;
+            return page.stream().map(s -> {
+                long pending = likeBuffer.pending(LikeCountBuffer.Target.POST, s.id());
+                return pending == 0 ? s : s.withLikeCount((int) (s.likeCount() + pending));
+            }).toList();
+        }
+        List<Long> ids = page.stream().map(PostSummary::id).toList();
+        Map<Long, Integer> counts = new HashMap<>();
+        for (var row : likes.countByPostIds(ids)) {
+            counts.put(row.getPostId(), (int) row.getLikeCount());
+        }
+        return page.stream().map(s -> s.withLikeCount(counts.getOrDefault(s.id(), 0))).toList();
+    }
+
+    // 댓글 수 / 조회수: post_stats 를 PK IN 으로 한 번 읽어 채움 (행이 없으면 0)
+    private List<PostSummary> withStats(List<PostSummary> page) {
+        if (page.isEmpty()) return page;
+        Map<Long, PostStats> byId = postStats.byPostIds(page.stream().map(PostSummary::id).toList());
+        return page.stream().map(s -> {
+            PostStats st = byId.get(s.id());
+            return st == null ? s : s.withStats((int) st.getCommentCount(), st.getViewCount());
+        }).toList();
     }
 
     private void requireAdmin(User u) {
@@ -175,24 +342,4 @@ public class PostService {
             f.setAccessible(true); f.set(obj, val);
         } catch (Exception ignored) {}
     }
-
-    // 아주 간단한 마크다운→HTML; 실제로는 flexmark 등 라이브러리 사용 권장
-    static class Markdown {
-        private static final Parser parser;
-        private static final HtmlRenderer renderer;
-
-        static {
-            MutableDataSet options = new MutableDataSet();
-            // 옵션 설정 가능 (예: 표, 코드 블록, 하이라이팅 등)
-            parser = Parser.builder(options).build();
-            renderer = HtmlRenderer.builder(options).build();
-        }
-
-        public static String toHtml(String md) {
-            if (md == null || md.isBlank()) return "";
-            Node document = parser.parse(md);
-            return renderer.render(document);
-        }
-    }
 }
-
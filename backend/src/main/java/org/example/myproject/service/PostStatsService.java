@@ -0,0 +1,70 @@
+package org.example.myproject.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.cache.PinnedPostSlot;
+import org.example.myproject.cache.PostDetailCache;
+import org.example.myproject.entity.Post.PostStats;
+import org.example.myproject.repository.post.PostStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostStatsService {
+
+    private final PostStatsRepository stats;
+    private final PostDetailCache detailCache;
+    private final PinnedPostSlot pinnedSlot;
+
+    /** 목록 페이지 글들의 지표 (PK IN 조회 한 번, 집계 없음) */
+    public Map<Long, PostStats> byPostIds(Collection<Long> postIds) {
+        Map<Long, PostStats> out = new HashMap<>();
+        if (postIds.isEmpty()) return out;
+        for (PostStats s : stats.findAllById(postIds)) out.put(s.getPostId(), s);
+        return out;
+    }
+
+    public PostStats byPostId(Long postId) {
+        return stats.findById(postId).orElse(null);
+    }
+
+    /** 글 작성 시 빈 지표 행 생성 (호출 측 트랜잭션에 참여) */
+    public void init(Long postId) {
+        stats.insertEmpty(postId);
+    }
+
+    public void delete(Long postId) {
+        stats.deleteById(postId);
+    }
+
+    /** 댓글 작성 / 삭제 시 ±1 */
+    public void addComments(Long postId, int delta) {
+        stats.addCommentCount(postId, delta);
+        detailCache.evict(postId);
+        pinnedSlot.replaceIfCurrent(postId, s -> s.withStats(s.commentCount() + delta, s.viewCount()));
+    }
+
+    /**
+     * 증분 갱신으로 생긴 어긋남 보정: 누락 행 생성, 댓글 수 재계산, 고아 행 삭제.
+     * 조회수는 원본 기록이 없어 보정 대상이 아니다.
+     * like_count 는 다루지 않는다: write-behind 사용 시 post_likes 는 이미 커밋됐는데 증감은 LikeCountBuffer 에
+     * 남아 있을 수 있어, 여기서 count(*) 로 맞추면 다음 flush 가 같은 증감을 한 번 더 더한다.
+     * (필요하면 LikeCountInitializer 의 1회성 보정 app.likes.resync-on-startup 으로 맞춤)
+     */
+    @Transactional
+    public void reconcile() {
+        long t0 = System.currentTimeMillis();
+        int inserted = stats.insertMissing();
+        int comments = stats.syncCommentCounts();
+        int orphans = stats.deleteOrphans();
+        detailCache.clear();
+        pinnedSlot.invalidate();
+        log.info("[stats] reconciled inserted={} commentRows={} orphans={} tookMs={}",
+                inserted, comments, orphans, System.currentTimeMillis() - t0);
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.myproject.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.entity.content.HtmlOwner;
+import org.example.myproject.entity.content.HtmlVariant;
+import org.example.myproject.repository.content.HtmlVariantRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * content_html 을 저장 시점에 gzip / deflate 로 미리 압축해 두고, 응답 시에는 저장된 바이트를 그대로 내보낸다.
+ * (brotli 는 JDK 에 인코더가 없어 deflate 로 대체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PrecompressedHtmlService {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private final HtmlVariantRepository variants;
+
+    @Transactional
+    public void store(HtmlOwner owner, Long ownerId, String html) {
+        byte[] raw = (html == null ? "" : html).getBytes(StandardCharsets.UTF_8);
+        byte[] gz = gzip(raw);
+        byte[] df = deflate(raw);
+        HtmlVariant v = variants.findByOwnerTypeAndOwnerId(owner, ownerId).orElse(null);
+        if (v != null) {
+            v.update(raw.length, gz, df);
+            variants.save(v);
+            return;
+        }
+        variants.save(HtmlVariant.builder()
+                .ownerType(owner)
+                .ownerId(ownerId)
+                .rawLength(raw.length)
+                .gzip(gz)
+                .deflate(df)
+                .build());
+    }
+
+    @Transactional
+    public void delete(HtmlOwner owner, Long ownerId) {
+        variants.deleteByOwner(owner, ownerId);
+    }
+
+    /**
+     * encoding(gzip / deflate / null=identity) 에 맞는 본문 바이트.
+     * 기능 도입 전에 저장된 글처럼 압축본이 없으면 html 공급자로 만들어 저장한 뒤 돌려준다.
+     */
+    public byte[] bytes(HtmlOwner owner, Long ownerId, String encoding, Supplier<String> html) {
+        Optional<byte[]> stored = DEFLATE.equals(encoding)
+                ? variants.findDeflate(owner, ownerId)
+                : variants.findGzip(owner, ownerId);
+        if (stored.isPresent()) {
+            return encoding == null ? gunzip(stored.get()) : stored.get();
+        }
+        String source = html.get();
+        try {
+            store(owner, ownerId, source);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[html] concurrent backfill owner={} id={}", owner, ownerId);
+        }
+        byte[] raw = (source == null ? "" : source).getBytes(StandardCharsets.UTF_8);
+        if (encoding == null) return raw;
+        return GZIP.equals(encoding) ? gzip(raw) : deflate(raw);
+    }
+
+    /**
+     * Accept-Encoding 협상: gzip 우선, 다음 deflate, 둘 다 안 되면 null (identity).
+     * q=0 으로 명시적으로 거부한 인코딩은 고르지 않는다.
+     */
+    public static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) return null;
+        double gzipQ = 0, deflateQ = 0, anyQ = -1;
+        boolean gzipSeen = false, deflateSeen = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1;
+            for (int i = 1; i < tokens.length; i++) {
+                String t = tokens[i].trim();
+                if (t.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(t.substring(2));
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            switch (coding) {
+                case GZIP, "x-gzip" -> { gzipQ = q; gzipSeen = true; }
+                case DEFLATE -> { deflateQ = q; deflateSeen = true; }
+                case "*" -> anyQ = q;
+                default -> { }
+            }
+        }
+        if (!gzipSeen && anyQ > 0) gzipQ = anyQ;
+        if (!deflateSeen && anyQ > 0) deflateQ = anyQ;
+        if (gzipQ > 0 && gzipQ >= deflateQ) return GZIP;
+        if (deflateQ > 0) return DEFLATE;
+        return null;
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            gz.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // HTTP 의 deflate 는 zlib 포맷 (RFC 1950)
+    private static byte[] deflate(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream df = new DeflaterOutputStream(out, deflater)) {
+            df.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] gz) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gz))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.myproject.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * visit_seen 보관 정책. 원본 행은 당일 중복 제거용이라 retention-days 만 남기고 지운다.
+ * 1) 지울 날짜의 집계 보장: visit_daily_count 행이 없으면 count(*) 로 채우고, 스케치가 없으면 VisitSketchService.backfill
+ * 2) partitioned=true 이고 MariaDB 이면 visit_date 범위 파티션(pYYYYMMDD)을 통째로 drop, 앞으로 partitions-ahead 일치를 미리 만듦
+ *    (최초 실행 시 PK 를 (id, visit_date) 로 바꾸고 파티션 테이블로 변환 — 파티션 키가 모든 unique 키에 포함되어야 하기 때문)
+ * 3) 남은 만료 행은 batch-size 건씩 짧은 트랜잭션으로 삭제하고 pause-ms 쉼 (H2 / 비파티션 / pmax 에 떨어진 행)
+ * 지표: visit.seen.purged{mode=batch|partition}
+ */
+@Slf4j
+@Service
+public class VisitRetentionService {
+
+    private static final String TABLE = "visit_seen";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    // 오늘 + 자정 직후 늦게 flush 되는 어제 행은 중복 제거에 필요
+    private static final int MIN_RETENTION_DAYS = 2;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final VisitSketchService sketches;
+    private final Counter batchPurged;
+    private final Counter partitionsDropped;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long pauseMs;
+    private final int maxBatches;
+    private final boolean partitioned;
+    private final int partitionsAhead;
+
+    public VisitRetentionService(JdbcTemplate jdbc, PlatformTransactionManager txManager, MeterRegistry registry,
+                                 VisitSketchService sketches,
+                                 @Value("${app.visit.retention.days:7}") int retentionDays,
+                                 @Value("${app.visit.retention.batch-size:1000}") int batchSize,
+                                 @Value("${app.visit.retention.pause-ms:200}") long pauseMs,
+                                 @Value("${app.visit.retention.max-batches:500}") int maxBatches,
+                                 @Value("${app.visit.retention.partitioned:false}") boolean partitioned,
+                                 @Value("${app.visit.retention.partitions-ahead:7}") int partitionsAhead) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.sketches = sketches;
+        this.batchPurged = Counter.builder("visit.seen.purged").tag("mode", "batch").register(registry);
+        this.partitionsDropped = Counter.builder("visit.seen.purged").tag("mode", "partition").register(registry);
+        this.retentionDays = Math.max(MIN_RETENTION_DAYS, retentionDays);
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMs = Math.max(0, pauseMs);
+        this.maxBatches = Math.max(1, maxBatches);
+        this.partitioned = partitioned;
+        this.partitionsAhead = Math.max(1, partitionsAhead);
+    }
+
+    /** @return 일괄 삭제로 지운 행 수 (파티션 drop 분은 제외) */
+    public int purge() {
+        LocalDate today = LocalDate.now();
+        LocalDate cutoff = today.minusDays(retentionDays - 1L); // cutoff 이전 날짜가 만료
+
+        summarize(cutoff);
+        if (partitioned) {
+            if (supportsPartitions()) {
+                managePartitions(today, cutoff);
+            } else {
+                log.warn("[visit] retention.partitioned=true 이지만 MariaDB/MySQL 이 아님 → 일괄 삭제만 수행");
+            }
+        }
+        return deleteExpired(cutoff);
+    }
+
+    // 만료 예정 날짜의 일별 수 / 스케치가 원본 없이도 남도록 먼저 채움
+    private void summarize(LocalDate cutoff) {
+        int filled = jdbc.update("""
+            insert into visit_daily_count (date, count)
+            select s.visit_date, count(*) from visit_seen s
+            where s.visit_date < ?
+              and not exists (select 1 from visit_daily_count d where d.date = s.visit_date)
+            group by s.visit_date
+        """, Date.valueOf(cutoff));
+        if (filled > 0) log.info("[visit] daily counts summarized before purge days={}", filled);
+        sketches.backfill();
+    }
+
+    private int deleteExpired(LocalDate cutoff) {
+        String select = "select id from " + TABLE + " where visit_date < ? order by visit_date, id limit ?";
+        String delete = "delete from " + TABLE + " where id = ?";
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> ids = jdbc.queryForList(select, Long.class, Date.valueOf(cutoff), batchSize);
+            if (ids.isEmpty()) break;
+            List<Object[]> args = new ArrayList<>(ids.size());
+            for (Long id : ids) args.add(new Object[]{id});
+            Integer deleted = tx.execute(status -> {
+                int n = 0;
+                for (int r : jdbc.batchUpdate(delete, args)) n += Math.max(r, 0);
+                return n;
+            });
+            int n = deleted == null ? 0 : deleted;
+            batchPurged.increment(n);
+            total += n;
+            if (ids.size() < batchSize || !pause()) break;
+        }
+        if (total > 0) log.info("[visit] visit_seen purged rows={} cutoff={}", total, cutoff);
+        return total;
+    }
+
+    // ===== MariaDB range partition =====
+
+    private boolean supportsPartitions() {
+        String product = jdbc.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        return product != null && (product.contains("MariaDB") || product.contains("MySQL"));
+    }
+
+    private void managePartitions(LocalDate today, LocalDate cutoff) {
+        List<String> names = jdbc.queryForList("""
+            select partition_name from information_schema.partitions
+            where table_schema = database() and table_name = ? and partition_name is not null
+            order by partition_ordinal_position
+        """, String.class, TABLE);
+
+        if (names.isEmpty()) {
+            convert(today, cutoff);
+            return;
+        }
+
+        // 만료 파티션 drop: pYYYYMMDD 는 그날 하루치만 담는다
+        StringJoiner expired = new StringJoiner(", ");
+        int expiredCount = 0;
+        LocalDate last = null;
+        for (String name : names) {
+            LocalDate day = partitionDay(name);
+            if (day == null) continue;
+            if (day.isBefore(cutoff)) {
+                expired.add(name);
+                expiredCount++;
+            }
+            last = day;
+        }
+        if (expiredCount > 0 && expiredCount < names.size()) {
+            jdbc.execute("alter table " + TABLE + " drop partition " + expired);
+            partitionsDropped.increment(expiredCount);
+            log.info("[visit] visit_seen partitions dropped={} cutoff={}", expired, cutoff);
+        }
+
+        // 다가올 날짜 파티션을 pmax 에서 분리
+        LocalDate from = last == null ? today : last.plusDays(1);
+        LocalDate until = today.plusDays(partitionsAhead);
+        if (from.isAfter(until) || !names.contains(MAX_PARTITION)) return;
+        jdbc.execute("alter table " + TABLE + " reorganize partition " + MAX_PARTITION
+                + " into (" + partitionList(from, until) + ")");
+    }
+
+    /**
+     * 최초 1회: 파티션 테이블로 변환. 테이블 재작성이 일어나므로 만료 행을 먼저 지워 크기를 줄인다.
+     * 파티션 키(visit_date)가 PK 에도 있어야 해서 PK 를 (id, visit_date) 로 확장 (id 는 여전히 AUTO_INCREMENT 선두 컬럼).
+     */
+    private void convert(LocalDate today, LocalDate cutoff) {
+        deleteExpired(cutoff);
+        LocalDate oldest = jdbc.queryForObject("select min(visit_date) from " + TABLE, LocalDate.class);
+        LocalDate from = oldest == null || oldest.isAfter(today) ? today : oldest;
+
+        log.info("[visit] converting visit_seen to range partitions from={} ahead={}", from, partitionsAhead);
+        jdbc.execute("alter table " + TABLE + " drop primary key, add primary key (id, visit_date)");
+        jdbc.execute("alter table " + TABLE + " partition by range columns(visit_date) ("
+                + partitionList(from, today.plusDays(partitionsAhead)) + ")");
+    }
+
+    // [from, until] 하루 단위 파티션 + 마지막 pmax
+    private static String partitionList(LocalDate from, LocalDate until) {
+        StringJoiner parts = new StringJoiner(", ");
+        for (LocalDate d = from; !d.isAfter(until); d = d.plusDays(1)) {
+            parts.add("partition " + PARTITION_NAME.format(d) + " values less than ('" + d.plusDays(1) + "')");
+        }
+        parts.add("partition " + MAX_PARTITION + " values less than (maxvalue)");
+        return parts.toString();
+    }
+
+    private static LocalDate partitionDay(String name) {
+        try {
+            return LocalDate.parse(name, PARTITION_NAME);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMs == 0) return true;
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.myproject.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.dto.analytics.VisitBucket;
+import org.example.myproject.entity.user.User;
+import org.example.myproject.entity.user.UserRole;
+import org.example.myproject.exception.ApiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * visit_hourly → visit_rollup(DAY / MONTH) 재계산과 구간 조회.
+ * 조회는 단위에 맞는 사전 집계 테이블만 읽고 visit_seen 은 보지 않는다.
+ * uniques 컬럼은 "그날 처음 집계된 방문자" 수라 일보다 긴 구간에서 합하면 방문자-일 수가 된다 (응답의 visitorDays).
+ * 월 단위 고유 방문자는 VisitSketchService 의 일별 스케치 합집합으로 따로 채운다.
+ */
+@Slf4j
+@Service
+public class VisitRollupService {
+
+    public enum Granularity { HOUR, DAY, MONTH }
+
+    public enum GroupBy { NONE, PATH, REFERRER }
+
+    private static final int MAX_ROWS = 5000;
+    private static final int MAX_HOUR_RANGE_DAYS = 31;
+
+    private final JdbcTemplate jdbc;
+    private final VisitSketchService sketches;
+    private final int hourlyRetentionDays;
+
+    public VisitRollupService(JdbcTemplate jdbc, VisitSketchService sketches,
+                              @Value("${app.analytics.hourly-retention-days:90}") int hourlyRetentionDays) {
+        this.jdbc = jdbc;
+        this.sketches = sketches;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+    }
+
+    /**
+     * 오늘 / 어제의 일 집계와 이번 달(월초면 지난달 포함)의 월 집계를 다시 계산한다. 같은 구간을 지우고 다시 넣으므로 여러 번 돌려도 같다.
+     * 보관 기간이 지난 visit_hourly 행은 일 집계에 이미 반영된 뒤이므로 삭제.
+     */
+    @Transactional
+    public void rollup() {
+        LocalDate today = LocalDate.now();
+        rollupDay(today.minusDays(1));
+        rollupDay(today);
+        rollupMonth(today.minusDays(1).withDayOfMonth(1));
+        if (!today.withDayOfMonth(1).equals(today.minusDays(1).withDayOfMonth(1))) rollupMonth(today.withDayOfMonth(1));
+        int purged = jdbc.update("delete from visit_hourly where bucket_hour < ?",
+                Timestamp.valueOf(today.minusDays(hourlyRetentionDays).atStartOfDay()));
+        log.debug("[analytics] rollup done today={} hourlyPurged={}", today, purged);
+    }
+
+    private void rollupDay(LocalDate day) {
+        jdbc.update("delete from visit_rollup where granularity = 'DAY' and bucket_start = ?", Date.valueOf(day));
+        jdbc.update("""
+            insert into visit_rollup (granularity, bucket_start, path, referrer_host, views, uniques)
+            select 'DAY', ?, path, referrer_host, sum(views), sum(uniques) from visit_hourly
+            where bucket_hour >= ? and bucket_hour < ?
+            group by path, referrer_host
+        """, Date.valueOf(day), Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+    }
+
+    private void rollupMonth(LocalDate first) {
+        jdbc.update("delete from visit_rollup where granularity = 'MONTH' and bucket_start = ?", Date.valueOf(first));
+        jdbc.update("""
+            insert into visit_rollup (granularity, bucket_start, path, referrer_host, views, uniques)
+            select 'MONTH', ?, path, referrer_host, sum(views), sum(uniques) from visit_rollup
+            where granularity = 'DAY' and bucket_start >= ? and bucket_start < ?
+            group by path, referrer_host
+        """, Date.valueOf(first), Date.valueOf(first), Date.valueOf(first.plusMonths(1)));
+    }
+
+    /**
+     * [from, to] (날짜 포함) 구간을 단위별로 조회. 시간 단위는 최대 31일, 결과는 최대 5000행.
+     */
+    @Transactional(readOnly = true)
+    public List<VisitBucket> range(LocalDate from, LocalDate to, String granularity, String groupBy, User current) {
+        if (current.getRole() != UserRole.ADMIN) throw new ApiException(HttpStatus.FORBIDDEN, "Forbidden");
+        if (from == null || to == null || to.isBefore(from)) throw new ApiException(HttpStatus.BAD_REQUEST, "invalid range");
+        Granularity g = parse(Granularity.class, granularity, Granularity.DAY);
+        GroupBy by = parse(GroupBy.class, groupBy, GroupBy.NONE);
+        if (g == Granularity.HOUR && ChronoUnit.DAYS.between(from, to) >= MAX_HOUR_RANGE_DAYS) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "hour range too long");
+        }
+
+        String dim = switch (by) {
+            case NONE -> "";
+            case PATH -> ", path";
+            case REFERRER -> ", referrer_host";
+        };
+        String sql;
+        List<Object> args = new ArrayList<>();
+        if (g == Granularity.HOUR) {
+            sql = "select bucket_hour as t" + dim + ", sum(views) as v, sum(uniques) as u from visit_hourly"
+                    + " where bucket_hour >= ? and bucket_hour < ?"
+                    + " group by bucket_hour" + dim + " order by t" + dim + " limit " + MAX_ROWS;
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        } else {
+            LocalDate start = g == Granularity.MONTH ? from.withDayOfMonth(1) : from;
+            sql = "select bucket_start as t" + dim + ", sum(views) as v, sum(uniques) as u from visit_rollup"
+                    + " where granularity = ? and bucket_start >= ? and bucket_start <= ?"
+                    + " group by bucket_start" + dim + " order by t" + dim + " limit " + MAX_ROWS;
+            args.add(g.name());
+            args.add(Date.valueOf(start));
+            args.add(Date.valueOf(to));
+        }
+        Map<LocalDate, Long> monthly = g == Granularity.MONTH && by == GroupBy.NONE
+                ? sketches.monthlyEstimates(from.withDayOfMonth(1), to.withDayOfMonth(1).plusMonths(1).minusDays(1))
+                : Map.of();
+        return jdbc.query(sql, (rs, i) -> {
+            LocalDateTime t = g == Granularity.HOUR
+                    ? rs.getTimestamp("t").toLocalDateTime()
+                    : rs.getDate("t").toLocalDate().atStartOfDay();
+            String path = by == GroupBy.PATH ? rs.getString("path") : null;
+            String referrer = by == GroupBy.REFERRER ? rs.getString("referrer_host") : null;
+            long visitorDays = rs.getLong("u");
+            Long uniques = by != GroupBy.NONE ? null : switch (g) {
+                case HOUR -> null;
+                case DAY -> visitorDays;
+                case MONTH -> monthly.get(t.toLocalDate());
+            };
+            return new VisitBucket(t, path, referrer, rs.getLong("v"), visitorDays, uniques);
+        }, args.toArray());
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, E fallback) {
+        if (value == null || value.isBlank()) return fallback;
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "invalid " + type.getSimpleName().toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.myproject.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.myproject.cache.VisitorDedupe;
+import org.example.myproject.dto.analytics.UniqueEstimate;
+import org.example.myproject.entity.user.User;
+import org.example.myproject.entity.user.UserRole;
+import org.example.myproject.exception.ApiException;
+import org.example.myproject.repository.visit.VisitSeenRepository;
+import org.example.myproject.util.HyperLogLog;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * visit_daily_count.hll_sketch 관리. 일별 스케치는 VisitEventBuffer flush 때 합쳐 저장하고,
+ * 기간 고유 방문자는 해당 일자 스케치들을 레지스터별 max 로 합쳐 추정한다 (메모리 4KB 고정, 일 수에 비례하는 시간).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VisitSketchService {
+
+    private static final int MAX_RANGE_DAYS = 3660;
+
+    private final JdbcTemplate jdbc;
+    private final VisitSeenRepository seenRepo;
+
+    /**
+     * 저장된 스케치에 sketch 를 합침. 행 잠금 후 읽고 쓰므로 여러 인스턴스에서도 안전하고,
+     * 합집합이라 같은 지문이 다시 들어와도(재시도) 결과가 같다. 호출 측 트랜잭션에 참여.
+     */
+    @Transactional
+    public void mergeDay(LocalDate date, HyperLogLog sketch) {
+        List<byte[]> stored = jdbc.query("select hll_sketch from visit_daily_count where date = ? for update",
+                (rs, i) -> rs.getBytes(1), Date.valueOf(date));
+        if (stored.isEmpty()) {
+            jdbc.update("insert into visit_daily_count (date, count, hll_sketch) values (?, 0, ?)",
+                    Date.valueOf(date), sketch.toBytes());
+            return;
+        }
+        jdbc.update("update visit_daily_count set hll_sketch = ? where date = ?",
+                HyperLogLog.of(stored.get(0)).merge(sketch).toBytes(), Date.valueOf(date));
+    }
+
+    @Transactional(readOnly = true)
+    public UniqueEstimate estimate(LocalDate from, LocalDate to, User current) {
+        if (current.getRole() != UserRole.ADMIN) throw new ApiException(HttpStatus.FORBIDDEN, "Forbidden");
+        if (from == null || to == null || to.isBefore(from)) throw new ApiException(HttpStatus.BAD_REQUEST, "invalid range");
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) throw new ApiException(HttpStatus.BAD_REQUEST, "range too long");
+
+        HyperLogLog union = new HyperLogLog();
+        long[] dailySum = {0};
+        int[] days = {0};
+        // 행을 하나씩 흘려 합침 (결과 목록을 만들지 않음)
+        jdbc.query("select count, hll_sketch from visit_daily_count where date >= ? and date <= ?", rs -> {
+            dailySum[0] += rs.getLong(1);
+            union.merge(rs.getBytes(2));
+            days[0]++;
+        }, Date.valueOf(from), Date.valueOf(to));
+        return new UniqueEstimate(from, to, union.estimate(), dailySum[0], days[0]);
+    }
+
+    /** [from, to] 의 일별 스케치를 달(1일 기준)마다 합친 고유 방문자 추정. 스케치가 없는 달은 빠진다. */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Long> monthlyEstimates(LocalDate from, LocalDate to) {
+        Map<LocalDate, HyperLogLog> months = new TreeMap<>();
+        jdbc.query("select date, hll_sketch from visit_daily_count where date >= ? and date <= ? and hll_sketch is not null",
+                rs -> {
+                    LocalDate month = rs.getDate(1).toLocalDate().withDayOfMonth(1);
+                    months.computeIfAbsent(month, m -> new HyperLogLog()).merge(rs.getBytes(2));
+                }, Date.valueOf(from), Date.valueOf(to));
+        Map<LocalDate, Long> out = new TreeMap<>();
+        months.forEach((month, sketch) -> out.put(month, sketch.estimate()));
+        return out;
+    }
+
+    /**
+     * 스케치가 없는 날(기능 도입 이전)을 visit_seen 으로 채운다. 원본 행이 남아 있는 날만 가능.
+     */
+    @Transactional
+    public int backfill() {
+        List<LocalDate> dates = jdbc.query("""
+            select distinct s.visit_date from visit_seen s
+            where not exists (select 1 from visit_daily_count d where d.date = s.visit_date and d.hll_sketch is not null)
+        """, (rs, i) -> rs.getDate(1).toLocalDate());
+        for (LocalDate date : dates) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (String fp : seenRepo.findFpHashesByVisitDate(date)) sketch.add(VisitorDedupe.key(fp));
+            mergeDay(date, sketch);
+        }
+        if (!dates.isEmpty()) log.info("[visit] hll sketches backfilled days={}", dates.size());
+        return dates.size();
+    }
+}
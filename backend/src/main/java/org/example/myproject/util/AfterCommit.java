@@ -0,0 +1,27 @@
+package org.example.myproject.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 실행. 트랜잭션 밖이면 즉시 실행한다.
+ * (캐시 무효화 / 이벤트 발행처럼 롤백 시에는 일어나면 안 되는 부수효과용)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AfterCommit {
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
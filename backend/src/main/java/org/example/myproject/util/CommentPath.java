@@ -0,0 +1,26 @@
+package org.example.myproject.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 댓글 materialized path. 조상부터 자기 자신까지의 id 를 고정폭 base36 조각으로 이어 붙인다.
+ * 고정폭이라 문자열 정렬 = 스레드 깊이 우선 순서(형제는 작성 순)이고,
+ * 한 스레드 / 한 글의 댓글 전체가 (root_id, path) / (post_id, path) 인덱스 range 한 번으로 읽힌다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CommentPath {
+
+    public static final int SEGMENT = 8;   // 36^8 ≈ 2.8e12 개 id 까지
+    public static final int MAX_DEPTH = 8; // root = 0, 더 깊은 답글은 마지막 단계의 형제로 붙임
+
+    public static String segment(long id) {
+        String s = Long.toString(id, 36);
+        if (s.length() > SEGMENT) throw new IllegalStateException("comment id too large for path: " + id);
+        return "0".repeat(SEGMENT - s.length()) + s;
+    }
+
+    public static String child(String parentPath, long id) {
+        return parentPath == null ? segment(id) : parentPath + segment(id);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.myproject.util;
+
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.service.CommentPurgeService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CommentPurgeScheduler {
+    private final CommentPurgeService purge;
+
+    // 기본: 매일 새벽 5시 (KST)
+    @Scheduled(cron = "${app.comments.purge.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        purge.purge();
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.myproject.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.example.myproject.dto.common.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * ETag / Last-Modified 기반 조건부 GET.
+ * 검증자는 본문보다 먼저(가벼운 쿼리로) 만들고, If-None-Match / If-Modified-Since 가 맞으면
+ * body 를 만들지 않고 304 로 끝낸다. (헤더 설정은 WebRequest.checkNotModified 가 담당)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConditionalGet {
+
+    public static <T> ResponseEntity<T> respond(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        if (notModified(request, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl(version)).body(body.get());
+    }
+
+    /** true 면 304 상태와 검증자 헤더가 이미 응답에 설정된 상태 */
+    public static boolean notModified(WebRequest request, ResourceVersion version) {
+        return request.checkNotModified(version.etag(), version.lastModified());
+    }
+
+    public static CacheControl cacheControl(ResourceVersion version) {
+        return version.privateScope() ? CacheControl.noCache().cachePrivate() : CacheControl.noCache();
+    }
+
+    /** 구성 값들로 만든 strong ETag (따옴표 포함). */
+    public static String etag(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (Object p : parts) sb.append(p).append('|');
+        try {
+            byte[] h = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(h, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static long millis(LocalDateTime t) {
+        return t == null ? -1 : t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
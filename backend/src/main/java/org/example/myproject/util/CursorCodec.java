@@ -0,0 +1,34 @@
+package org.example.myproject.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.example.myproject.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * keyset 페이지네이션용 불투명 커서 인코딩.
+ * 값들을 '|' 로 이어 붙인 뒤 URL-safe Base64 로 감싼다. (클라이언트는 내용을 해석하지 않음)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CursorCodec {
+
+    private static final String SEP = "|";
+
+    public static String encode(String... parts) {
+        String raw = String.join(SEP, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) throw new IllegalArgumentException("parts");
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.myproject.util;
+
+/**
+ * long 원소 전용 open addressing(linear probing) 해시 집합. 박싱 / 노드 객체 없이 long[] 하나만 쓴다.
+ * 0 은 빈 칸 표시로 쓰므로 별도 플래그로 관리. 스레드 안전하지 않음 (호출 측에서 동기화).
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] table;
+    private int mask;
+    private int size;       // 0 제외 원소 수
+    private boolean hasZero;
+
+    public LongHashSet(int expected) {
+        int cap = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+        this.table = new long[cap];
+        this.mask = cap - 1;
+    }
+
+    /** @return 새로 추가되었으면 true */
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            if (hasZero) return false;
+            hasZero = true;
+            return true;
+        }
+        int i = slot(key);
+        while (true) {
+            long cur = table[i];
+            if (cur == EMPTY) break;
+            if (cur == key) return false;
+            i = (i + 1) & mask;
+        }
+        table[i] = key;
+        if (++size * 2 > table.length) grow(); // 적재율 0.5 이하 유지
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == EMPTY) return hasZero;
+        int i = slot(key);
+        while (true) {
+            long cur = table[i];
+            if (cur == EMPTY) return false;
+            if (cur == key) return true;
+            i = (i + 1) & mask;
+        }
+    }
+
+    /** @return 있었으면 true. 삭제 뒤 이어지는 probe 체인은 앞으로 당겨 메움 (tombstone 없음) */
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            boolean had = hasZero;
+            hasZero = false;
+            return had;
+        }
+        int i = slot(key);
+        while (true) {
+            long cur = table[i];
+            if (cur == EMPTY) return false;
+            if (cur == key) break;
+            i = (i + 1) & mask;
+        }
+        int hole = i;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            long cur = table[j];
+            if (cur == EMPTY) break;
+            int home = slot(cur);
+            // home 이 (hole, j] 구간 밖이면 hole 로 옮겨도 탐색 경로가 유지됨
+            boolean between = hole <= j ? (hole < home && home <= j) : (hole < home || home <= j);
+            if (!between) {
+                table[hole] = cur;
+                hole = j;
+            }
+        }
+        table[hole] = EMPTY;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size + (hasZero ? 1 : 0);
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L; // 상위 비트까지 섞음
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        mask = table.length - 1;
+        for (long k : old) {
+            if (k == EMPTY) continue;
+            int i = slot(k);
+            while (table[i] != EMPTY) i = (i + 1) & mask;
+            table[i] = k;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.myproject.util;
+
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.service.PostStatsService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostStatsReconcileScheduler {
+    private final PostStatsService postStats;
+
+    // 기본: 매일 새벽 4시 30분 (KST)
+    @Scheduled(cron = "${app.stats.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        postStats.reconcile();
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.myproject.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요청 경로에서 자주 부르는 SHA-256 도우미. 스레드별 MessageDigest 재사용 + 표 기반 hex 인코딩
+ * (바이트마다 String.format 하지 않고 결과 문자열 하나만 만든다).
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Sha256 {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    public static byte[] digest(String s) {
+        MessageDigest md = DIGEST.get();
+        md.reset();
+        return md.digest((s == null ? "" : s).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 소문자 hex 64자 */
+    public static String hex(String s) {
+        byte[] h = digest(s);
+        char[] out = new char[h.length * 2];
+        for (int i = 0; i < h.length; i++) {
+            out[i * 2] = HEX[(h[i] >> 4) & 0xF];
+            out[i * 2 + 1] = HEX[h[i] & 0xF];
+        }
+        return new String(out);
+    }
+
+    /** 해시 앞 8바이트를 long 으로 (메모리 집합의 키용) */
+    public static long prefix64(String s) {
+        byte[] h = digest(s);
+        long v = 0;
+        for (int i = 0; i < 8; i++) v = (v << 8) | (h[i] & 0xFF);
+        return v;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.myproject.util;
+
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.service.VisitRetentionService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class VisitRetentionScheduler {
+    private final VisitRetentionService retention;
+
+    // 기본: 매일 새벽 4시 (KST)
+    @Scheduled(cron = "${app.visit.retention.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        retention.purge();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.myproject.util;
+
+import lombok.RequiredArgsConstructor;
+import org.example.myproject.service.VisitRollupService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class VisitRollupScheduler {
+    private final VisitRollupService rollups;
+
+    // 기본: 매시 5분 (시간 버킷 flush 이후)
+    @Scheduled(cron = "${app.analytics.rollup-cron:0 5 * * * *}")
+    public void run() {
+        rollups.rollup();
+    }
+}
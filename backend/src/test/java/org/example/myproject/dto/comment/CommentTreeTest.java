@@ -0,0 +1,67 @@
+package org.example.myproject.dto.comment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CommentTreeTest {
+
+    private static CommentDto c(long id, Long parentId, int depth) {
+        return CommentDto.builder().id(id).content("c" + id).parentId(parentId).depth(depth).replies(List.of()).build();
+    }
+
+    @Test
+    void buildsNestedThreadsInPathOrder() {
+        // 1 ─ 2 ─ 3
+        //   └ 4
+        // 5
+        List<CommentDto> roots = CommentTree.build(List.of(
+                c(1, null, 0), c(2, 1L, 1), c(3, 2L, 2), c(4, 1L, 1), c(5, null, 0)));
+
+        assertThat(roots).extracting(CommentDto::id).containsExactly(1L, 5L);
+        CommentDto first = roots.get(0);
+        assertThat(first.replies()).extracting(CommentDto::id).containsExactly(2L, 4L);
+        assertThat(first.replyCount()).isEqualTo(3);
+        assertThat(first.replies().get(0).replies()).extracting(CommentDto::id).containsExactly(3L);
+        assertThat(first.replies().get(0).replyCount()).isEqualTo(1);
+        assertThat(roots.get(1).replies()).isEmpty();
+        assertThat(roots.get(1).replyCount()).isZero();
+    }
+
+    @Test
+    void orphansArePromotedToTopLevel() {
+        // 부모(10)가 잘려 나간 답글 11, 그 자식 12
+        List<CommentDto> roots = CommentTree.build(List.of(c(1, null, 0), c(11, 10L, 1), c(12, 11L, 2)));
+
+        assertThat(roots).extracting(CommentDto::id).containsExactly(1L, 11L);
+        assertThat(roots.get(1).replies()).extracting(CommentDto::id).containsExactly(12L);
+    }
+
+    @Test
+    void deepChainDoesNotRecurse() {
+        int depth = 10_000;
+        List<CommentDto> chain = new ArrayList<>(depth);
+        chain.add(c(1, null, 0));
+        for (long id = 2; id <= depth; id++) chain.add(c(id, id - 1, (int) id - 1));
+
+        List<CommentDto> roots = CommentTree.build(chain);
+
+        assertThat(roots).hasSize(1);
+        assertThat(roots.get(0).replyCount()).isEqualTo(depth - 1);
+        CommentDto node = roots.get(0);
+        int levels = 1;
+        while (!node.replies().isEmpty()) {
+            node = node.replies().get(0);
+            levels++;
+        }
+        assertThat(levels).isEqualTo(depth);
+        assertThat(node.id()).isEqualTo((long) depth);
+    }
+
+    @Test
+    void emptyInputGivesEmptyTree() {
+        assertThat(CommentTree.build(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.myproject.markdown;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 게시글 크기별 렌더링 처리량.
+ * 실행: mvn -q test-compile 후 MarkdownRenderBenchmark.main (테스트 클래스패스) 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarkdownRenderBenchmark {
+
+    // small ≈ 1KB, medium ≈ 30KB, huge ≈ 1MB
+    @Param({"1", "30", "1000"})
+    public int sections;
+
+    private MarkdownRenderer renderer;
+    private String md;
+
+    @Setup
+    public void setUp() {
+        renderer = new MarkdownRenderer(
+                List.of("tables", "fenced-code", "autolink", "anchors", "strikethrough"), 128, new SimpleMeterRegistry());
+        md = document(sections);
+    }
+
+    @Benchmark
+    public String renderUncached() {
+        return renderer.toHtml(md);
+    }
+
+    @Benchmark
+    public MarkdownRenderer.Rendered renderCached() {
+        return renderer.render(md);
+    }
+
+    @Benchmark
+    public String sha() {
+        return renderer.sha(md);
+    }
+
+    static String document(int sections) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < sections; i++) {
+            sb.append("## Section ").append(i).append("\n\n")
+                    .append("Some **bold** and _italic_ text with a link https://example.com/").append(i)
+                    .append(" and ~~removed~~ words.\n\n")
+                    .append("| key | value | note |\n|-----|-------|------|\n");
+            for (int r = 0; r < 5; r++) {
+                sb.append("| k").append(r).append(" | ").append(r * i).append(" | row ").append(r).append(" |\n");
+            }
+            sb.append("\n```java\npublic int sum(int a, int b) {\n    return a + b;\n}\n```\n\n")
+                    .append("- item one\n- item two\n  - nested\n\n> quoted line ").append(i).append("\n\n");
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MarkdownRenderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.myproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    // 분당 6건 → 10초에 토큰 하나
+    private static final long INTERVAL = 10 * SECOND;
+
+    private static TokenBucketRateLimiter limiter(int stripes, int maxKeysPerStripe) {
+        RateLimitProperties props = new RateLimitProperties();
+        props.setStripes(stripes);
+        props.setMaxKeysPerStripe(maxKeysPerStripe);
+        return new TokenBucketRateLimiter(props, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        var limiter = limiter(1, 100);
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("k", "p", INTERVAL, 3, now).allowed()).isTrue();
+        }
+        var rejected = limiter.tryAcquire("k", "p", INTERVAL, 3, now);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterNanos()).isEqualTo(INTERVAL);
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(10);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        var limiter = limiter(1, 100);
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) limiter.tryAcquire("k", "p", INTERVAL, 3, now);
+
+        var early = limiter.tryAcquire("k", "p", INTERVAL, 3, now + 4 * SECOND);
+        assertThat(early.allowed()).isFalse();
+        assertThat(early.retryAfterSeconds()).isEqualTo(6);
+
+        assertThat(limiter.tryAcquire("k", "p", INTERVAL, 3, now + INTERVAL).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("k", "p", INTERVAL, 3, now + INTERVAL).allowed()).isFalse();
+    }
+
+    @Test
+    void retryAfterRoundsPartialSecondsUp() {
+        var decision = new TokenBucketRateLimiter.Decision(false, SECOND + 1, false);
+        assertThat(decision.retryAfterSeconds()).isEqualTo(2);
+        assertThat(new TokenBucketRateLimiter.Decision(false, 1, false).retryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void keysAreIndependent() {
+        var limiter = limiter(4, 100);
+        long now = 1_000 * SECOND;
+        assertThat(limiter.tryAcquire("a", "p", INTERVAL, 1, now).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a", "p", INTERVAL, 1, now).allowed()).isFalse();
+        assertThat(limiter.tryAcquire("b", "p", INTERVAL, 1, now).allowed()).isTrue();
+    }
+
+    @Test
+    void newKeysShareOverflowBucketWhenFull() {
+        var limiter = limiter(1, 2);
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire("a", "p", INTERVAL, 2, now);
+        limiter.tryAcquire("b", "p", INTERVAL, 2, now);
+
+        // 자리가 없으니 키를 바꿔도 같은 공용 버킷에서 차감된다
+        var c = limiter.tryAcquire("c", "p", INTERVAL, 2, now);
+        var d = limiter.tryAcquire("d", "p", INTERVAL, 2, now);
+        var e = limiter.tryAcquire("e", "p", INTERVAL, 2, now);
+        assertThat(c.shared()).isTrue();
+        assertThat(c.allowed()).isTrue();
+        assertThat(d.allowed()).isTrue();
+        assertThat(e.allowed()).isFalse();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void refilledBucketsAreSweptToMakeRoom() {
+        var limiter = limiter(1, 1);
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire("a", "p", INTERVAL, 5, now);
+
+        var later = limiter.tryAcquire("b", "p", INTERVAL, 5, now + 2 * INTERVAL);
+        assertThat(later.shared()).isFalse();
+        assertThat(later.allowed()).isTrue();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.myproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.example.myproject.dto.like.LikeToggleResponse;
+import org.example.myproject.entity.Post.Post;
+import org.example.myproject.entity.category.Category;
+import org.example.myproject.entity.user.User;
+import org.example.myproject.entity.user.UserRole;
+import org.example.myproject.repository.category.CategoryRepository;
+import org.example.myproject.repository.like.PostLikeRepository;
+import org.example.myproject.repository.post.PostRepository;
+import org.example.myproject.repository.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class LikeServiceConcurrencyTest {
+
+    private static final int USERS = 40;
+    private static final int THREADS = 16;
+
+    @Autowired LikeService likeService;
+    @Autowired UserRepository users;
+    @Autowired CategoryRepository categories;
+    @Autowired PostRepository posts;
+    @Autowired PostLikeRepository likes;
+
+    private final List<User> likers = new ArrayList<>();
+    private Category category;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            likers.add(users.save(User.builder()
+                    .email("like-" + i + "-" + System.nanoTime() + "@test.local")
+                    .password("x")
+                    .displayName("liker" + i)
+                    .role(UserRole.USER)
+                    .blocked(false)
+                    .build()));
+        }
+        category = categories.save(Category.builder()
+                .name("like-test").slug("like-test-" + System.nanoTime()).sortOrder(999).build());
+        post = posts.save(Post.builder()
+                .title("like target").category(category).author(likers.get(0))
+                .contentMd("body").contentHtml("<p>body</p>").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        posts.deleteById(post.getId());
+        categories.deleteById(category.getId());
+        users.deleteAll(likers);
+    }
+
+    @Test
+    void concurrentTogglesKeepLikeCountExact() throws Exception {
+        // 1단계: 모든 사용자가 동시에 한 번씩 좋아요
+        List<Callable<LikeToggleResponse>> first = new ArrayList<>();
+        for (User u : likers) first.add(() -> likeService.toggle(post.getId(), u));
+        List<LikeToggleResponse> results = hammer(first);
+
+        assertThat(results).allMatch(LikeToggleResponse::liked);
+        assertThat(results).extracting(LikeToggleResponse::likeCount).doesNotHaveDuplicates();
+        assertThat(storedCount()).isEqualTo(USERS);
+        assertThat(likes.countByPostId(post.getId())).isEqualTo(USERS);
+
+        // 2단계: 각 사용자가 세 번씩 연타(섞어서 동시에) → 홀수 번 토글이므로 모두 취소 상태
+        List<Callable<LikeToggleResponse>> second = new ArrayList<>();
+        for (User u : likers) {
+            for (int k = 0; k < 3; k++) second.add(() -> likeService.toggle(post.getId(), u));
+        }
+        Collections.shuffle(second);
+        hammer(second);
+
+        assertThat(storedCount()).isZero();
+        assertThat(likes.countByPostId(post.getId())).isZero();
+    }
+
+    private long storedCount() {
+        return posts.findById(post.getId()).orElseThrow().getLikeCount();
+    }
+
+    private static <T> List<T> hammer(List<Callable<T>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> out = new ArrayList<>();
+            for (Future<T> f : futures) out.add(f.get(30, TimeUnit.SECONDS));
+            return out;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
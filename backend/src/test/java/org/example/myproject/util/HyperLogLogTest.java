@@ -0,0 +1,75 @@
+package org.example.myproject.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HyperLogLogTest {
+
+    private static HyperLogLog sketchOf(long seed, int n) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        HyperLogLog h = new HyperLogLog();
+        for (int i = 0; i < n; i++) h.add(rnd.nextLong());
+        return h;
+    }
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    // 표준 오차 ≈ 1.6%, 3σ 안쪽이면 통과 (작은 구간은 linear counting 이라 더 정확)
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1_000, 5_000, 20_000, 100_000, 1_000_000})
+    void estimateStaysWithinErrorBound(int n) {
+        long estimate = sketchOf(n, n).estimate();
+        assertThat((double) estimate).isCloseTo(n, within(Math.max(1.0, n * 0.05)));
+    }
+
+    @Test
+    void duplicatesDoNotInflateEstimate() {
+        SplittableRandom rnd = new SplittableRandom(7);
+        long[] keys = new long[1_000];
+        for (int i = 0; i < keys.length; i++) keys[i] = rnd.nextLong();
+        HyperLogLog h = new HyperLogLog();
+        for (int round = 0; round < 10; round++) for (long k : keys) h.add(k);
+        assertThat(h.estimate()).isEqualTo(sketchOf(7, 1_000).estimate());
+    }
+
+    @Test
+    void mergeEstimatesUnion() {
+        // 같은 seed 의 앞쪽 5만 건이 겹침 → 합집합 10만 건
+        HyperLogLog a = sketchOf(1, 100_000);
+        HyperLogLog b = sketchOf(1, 50_000);
+        HyperLogLog c = sketchOf(2, 50_000);
+        HyperLogLog union = HyperLogLog.of(a.toBytes()).merge(b).merge(c.toBytes());
+        assertThat((double) union.estimate()).isCloseTo(150_000, within(150_000 * 0.05));
+        // 합집합은 순서 / 반복과 무관
+        assertThat(HyperLogLog.of(c.toBytes()).merge(a).merge(b).merge(a).estimate()).isEqualTo(union.estimate());
+    }
+
+    @Test
+    void bytesRoundTripAndInvalidInputIsEmpty() {
+        HyperLogLog h = sketchOf(3, 10_000);
+        byte[] bytes = h.toBytes();
+        assertThat(bytes).hasSize(HyperLogLog.M);
+        assertThat(HyperLogLog.of(bytes).estimate()).isEqualTo(h.estimate());
+        assertThat(HyperLogLog.of(null).estimate()).isZero();
+        assertThat(HyperLogLog.of(new byte[10]).estimate()).isZero();
+        assertThat(new HyperLogLog().merge((byte[]) null).estimate()).isZero();
+    }
+
+    @Test
+    void rankOfHashWithNoSetBitsAfterIndexIsCapped() {
+        HyperLogLog h = new HyperLogLog();
+        h.add(0L);   // 인덱스 0, 나머지 비트 모두 0
+        h.add(-1L >>> (64 - HyperLogLog.P) << (64 - HyperLogLog.P)); // 마지막 인덱스, 나머지 비트 0
+        assertThat(h.toBytes()[0]).isEqualTo((byte) (64 - HyperLogLog.P + 1));
+        assertThat(h.toBytes()[HyperLogLog.M - 1]).isEqualTo((byte) (64 - HyperLogLog.P + 1));
+        assertThat(h.estimate()).isEqualTo(2);
+    }
+}
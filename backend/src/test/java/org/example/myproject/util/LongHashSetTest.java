@@ -0,0 +1,72 @@
+package org.example.myproject.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+    @Test
+    void addReportsOnlyNewKeys() {
+        LongHashSet set = new LongHashSet(4);
+        assertThat(set.add(42)).isTrue();
+        assertThat(set.add(42)).isFalse();
+        assertThat(set.add(-7)).isTrue();
+        assertThat(set.contains(42)).isTrue();
+        assertThat(set.contains(-7)).isTrue();
+        assertThat(set.contains(43)).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    void zeroIsAnOrdinaryKey() {
+        LongHashSet set = new LongHashSet(4);
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.remove(0)).isTrue();
+        assertThat(set.remove(0)).isFalse();
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    void growsPastInitialCapacityWithoutLosingKeys() {
+        LongHashSet set = new LongHashSet(16);
+        for (long k = 1; k <= 100_000; k++) assertThat(set.add(k * 31)).isTrue();
+        assertThat(set.size()).isEqualTo(100_000);
+        for (long k = 1; k <= 100_000; k++) assertThat(set.contains(k * 31)).isTrue();
+        assertThat(set.contains(31 * 100_001L)).isFalse();
+    }
+
+    @Test
+    void removeKeepsProbeChainsReachable() {
+        // 작은 표에 연속 키를 넣어 충돌 체인을 만든 뒤 중간부터 지워도 나머지는 찾을 수 있어야 함
+        LongHashSet set = new LongHashSet(16);
+        for (long k = 1; k <= 20; k++) set.add(k);
+        for (long k = 1; k <= 20; k += 2) assertThat(set.remove(k)).isTrue();
+        for (long k = 1; k <= 20; k++) assertThat(set.contains(k)).isEqualTo(k % 2 == 0);
+        assertThat(set.size()).isEqualTo(10);
+        assertThat(set.remove(1)).isFalse();
+    }
+
+    @Test
+    void matchesHashSetUnderRandomAddRemove() {
+        SplittableRandom rnd = new SplittableRandom(20240601L);
+        LongHashSet set = new LongHashSet(8);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            long key = rnd.nextLong(-2_000, 2_000); // 좁은 범위라 추가 / 삭제 / 재추가가 자주 섞임
+            if (rnd.nextInt(3) == 0) {
+                assertThat(set.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(set.add(key)).isEqualTo(expected.add(key));
+            }
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long k = -2_000; k < 2_000; k++) assertThat(set.contains(k)).isEqualTo(expected.contains(k));
+    }
+}